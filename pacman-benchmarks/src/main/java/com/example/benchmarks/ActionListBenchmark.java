@@ -0,0 +1,59 @@
+package com.example.benchmarks;
+
+import com.example.model.Action;
+import com.example.model.ActionList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//Per-tick ledger lookups: getActions for a tick with and without actions, and the missedAction check the client does every frame
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionListBenchmark {
+
+    //Length of the game the ledger covers, in ticks
+    @Param({"600", "6000"})
+    public int ticks;
+
+    private ActionList actions;
+    private int clockWithActions;
+    private int clockWithoutActions;
+
+    @Setup
+    public void setUp() {
+        actions = BenchmarkStates.scriptedActions(BenchmarkStates.PLAYERS, ticks);
+        clockWithActions = (ticks / 2) - (ticks / 2) % BenchmarkStates.TICKS_PER_MOVE;
+        clockWithoutActions = clockWithActions + 1;
+        //Hand out everything up to the middle of the game so missedAction takes the common, nothing-missed path
+        actions.getActions(clockWithActions);
+    }
+
+    @Benchmark
+    public List<Action> getActionsHit() {
+        return actions.getActions(clockWithActions);
+    }
+
+    @Benchmark
+    public List<Action> getActionsMiss() {
+        return actions.getActions(clockWithoutActions);
+    }
+
+    @Benchmark
+    public boolean missedAction() {
+        return actions.missedAction(clockWithActions);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.benchmarks;
+
+import com.example.GameLogic.GameController;
+import com.example.model.Action;
+import com.example.model.ActionList;
+import com.example.model.GameState;
+import com.example.model.Ghost;
+import com.example.model.GhostType;
+
+//Deterministic game states and action ledgers shared by the benchmarks
+final class BenchmarkStates {
+
+    static final int PLAYERS = 4;
+
+    //Every player changes direction this often, roughly what a human does at 20 ticks per second
+    static final int TICKS_PER_MOVE = 10;
+
+    private BenchmarkStates() {
+    }
+
+    //Scripted ledger where each player cycles through WEST, EAST, NORTH, SOUTH, in the same layout the server produces
+    static ActionList scriptedActions(int players, int ticks) {
+        ActionList actions = new ActionList();
+        int index = 0;
+        for (int clock = 0; clock < ticks; clock += TICKS_PER_MOVE) {
+            for (int p = 0; p < players; p++) {
+                int move = 1 + ((clock / TICKS_PER_MOVE + p) % 4);
+                actions.addAction(new Action(p, clock, move, index++));
+            }
+        }
+        return actions;
+    }
+
+    //Initial state with extra ghosts appended, cycling through the ghost types
+    static GameState withGhosts(GameController controller, int players, int ghostCount) {
+        GameState state = controller.initializeGameState(players);
+        GhostType[] types = GhostType.values();
+        state.ghosts().clear();
+        for (int i = 0; i < ghostCount; i++) {
+            state.ghosts().add(new Ghost(types[i % types.length]));
+        }
+        return state;
+    }
+
+    //Plays the scripted ledger forward so the benchmarks measure a game in progress rather than the spawn positions
+    static GameState advance(GameController controller, GameState state, ActionList actions, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            state = controller.updateGameState(state, actions.getActions(state.clock() + 1));
+        }
+        return state;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.benchmarks;
+
+import com.example.GameLogic.GameController;
+import com.example.model.ActionList;
+import com.example.model.Constants;
+import com.example.model.GameState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//Replaying the ledger from the initial state with updateGameStateFor, as a client does after a late action or a reconnect
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatchUpBenchmark {
+
+    //3 seconds, 30 seconds and 5 minutes of game time
+    @Param({"60", "600", "6000"})
+    public int ticks;
+
+    private GameController controller;
+    private GameState initialState;
+
+    @Setup
+    public void setUp() {
+        controller = new GameController();
+        initialState = controller.initializeGameState(BenchmarkStates.PLAYERS);
+        //updateGameStateFor reads the shared ledger
+        Constants.cleanActions = BenchmarkStates.scriptedActions(BenchmarkStates.PLAYERS, ticks);
+    }
+
+    @Benchmark
+    public GameState updateGameStateFor() {
+        return controller.updateGameStateFor(initialState, initialState.clock() + ticks);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.benchmarks;
+
+import com.example.GameLogic.GameController;
+import com.example.model.Action;
+import com.example.model.ActionList;
+import com.example.model.GameState;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//Cost of a single tick and of a full state copy, four players in the middle of a game
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameControllerBenchmark {
+
+    private GameController controller;
+    private GameState midGameState;
+    private List<Action> nextActions;
+
+    @Setup
+    public void setUp() {
+        controller = new GameController();
+        ActionList actions = BenchmarkStates.scriptedActions(BenchmarkStates.PLAYERS, 400);
+        GameState initialState = controller.initializeGameState(BenchmarkStates.PLAYERS);
+        midGameState = BenchmarkStates.advance(controller, initialState, actions, 200);
+        nextActions = actions.getActions(midGameState.clock() + 1);
+    }
+
+    //updateGameState never mutates its input, so every call simulates the same tick
+    @Benchmark
+    public GameState updateGameState() {
+        return controller.updateGameState(midGameState, nextActions);
+    }
+
+    @Benchmark
+    public GameState deepCopyGameState() {
+        return controller.deepCopyGameState(midGameState);
+    }
+}
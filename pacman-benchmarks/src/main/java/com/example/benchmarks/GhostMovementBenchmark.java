@@ -0,0 +1,52 @@
+package com.example.benchmarks;
+
+import com.example.GameLogic.GameController;
+import com.example.model.Action;
+import com.example.model.ActionList;
+import com.example.model.GameState;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//Ghost movement is private to GameController, so this measures a whole tick while scaling the ghost count
+//The difference between the two counts is the per-ghost cost of targeting, movement and collisions
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostMovementBenchmark {
+
+    //5 is the normal game, 100 is the stress case from SystemPerformanceTest
+    @Param({"5", "100"})
+    public int ghosts;
+
+    private GameController controller;
+    private GameState state;
+    private List<Action> nextActions;
+
+    @Setup
+    public void setUp() {
+        controller = new GameController();
+        ActionList actions = BenchmarkStates.scriptedActions(BenchmarkStates.PLAYERS, 400);
+        GameState initialState = BenchmarkStates.withGhosts(controller, BenchmarkStates.PLAYERS, ghosts);
+        state = BenchmarkStates.advance(controller, initialState, actions, 200);
+        nextActions = actions.getActions(state.clock() + 1);
+    }
+
+    @Benchmark
+    public GameState tick() {
+        return controller.updateGameState(state, nextActions);
+    }
+}
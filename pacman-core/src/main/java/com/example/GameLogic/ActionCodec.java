@@ -0,0 +1,94 @@
+package com.example.GameLogic;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.example.model.Action;
+
+//Compact binary encoding of a stream of actions, used by the binary action channel instead of jSpace tuples
+//Every action is its player id and move as one byte each, followed by the change in clock since the previous
+//action of the stream as a zigzag varint, so an action usually takes 3 bytes
+//Indices are not sent, a clean action stream starts at an index both ends agree on and counts up by one
+//One codec keeps the state of one direction of one connection
+public class ActionCodec {
+
+    //First byte of the binary action channel's handshake, both ends must agree on it
+    public static final int CHANNEL_VERSION = 1;
+
+    private int lastClock;
+    private int nextIndex;
+    private final boolean indexed;
+
+    private ActionCodec(boolean indexed, int firstIndex) {
+        this.indexed = indexed;
+        this.nextIndex = firstIndex;
+    }
+
+    //Raw actions from a client, decoded with index -1
+    public static ActionCodec raw() {
+        return new ActionCodec(false, -1);
+    }
+
+    //Clean actions from the server, the first one has index firstIndex
+    public static ActionCodec clean(int firstIndex) {
+        return new ActionCodec(true, firstIndex);
+    }
+
+    public void write(Action action, OutputStream out) throws IOException {
+        if (action.getPlayerId() < 0 || action.getPlayerId() > 0xFF || action.getMove() < 0 || action.getMove() > 0xFF) {
+            throw new IllegalArgumentException("Player id and move must fit in a byte: " + action.getPlayerId() + ", " + action.getMove());
+        }
+        out.write(action.getPlayerId());
+        out.write(action.getMove());
+        writeVarint(zigzag(action.clock() - lastClock), out);
+        lastClock = action.clock();
+    }
+
+    public Action read(InputStream in) throws IOException {
+        int playerId = readByte(in);
+        int move = readByte(in);
+        int clock = lastClock + unzigzag(readVarint(in));
+        lastClock = clock;
+        return new Action(playerId, clock, move, indexed ? nextIndex++ : -1);
+    }
+
+    //Unsigned LEB128, 7 bits per byte with the high bit set on every byte but the last
+    public static void writeVarint(int value, OutputStream out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    public static int readVarint(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte(in);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint longer than 5 bytes");
+    }
+
+    //Maps small negative numbers to small positive ones, so a clock going back a tick still takes one byte
+    public static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.GameLogic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspace.Space;
+
+import com.example.model.Action;
+
+public class ActionUtil {
+
+    //Tag of the clean action queries that ask for every action from an index onward
+    public static final String BATCH_FROM = "FROM";
+
+    //Converts an object array (retrived from a space of actions) into a an action object, works for both raw and clean actions
+    public static Action convertObjToAction(Object[] t) {
+        assert t.length >= 3 : "Can not convert to Action";
+        int playerId = (int) t[0];
+        int clock = (int) t[1];
+        int move = (int) t[2];
+        int index = ((t.length != 4) ? -1 : (int) t[3]);
+        return new Action(playerId, clock, move, index);
+    }
+
+    //Given a raw action object, registeres that in the given space
+    //Meant to be used by the key handler
+    public static void registerRawAction(Action action, Space remoteRawActions) {
+        try {
+            remoteRawActions.put(action.getPlayerId(), action.clock(), action.getMove());
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //Packs clean actions with consecutive indices into one string, "playerId,clock,move" per action separated by ';'
+    //The indices are left out, the receiver knows the index of the first action it asked for
+    public static String encodeBatch(List<Action> actions) {
+        StringBuilder batch = new StringBuilder(actions.size() * 12);
+        for (Action action : actions) {
+            if (!batch.isEmpty()) {
+                batch.append(';');
+            }
+            batch.append(action.getPlayerId()).append(',').append(action.clock()).append(',').append(action.getMove());
+        }
+        return batch.toString();
+    }
+
+    //Reverse of encodeBatch, the first action gets index firstIndex
+    public static List<Action> decodeBatch(String batch, int firstIndex) {
+        List<Action> actions = new ArrayList<>();
+        if (batch.isEmpty()) {
+            return actions;
+        }
+        for (String action : batch.split(";")) {
+            String[] fields = action.split(",");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Malformed action in batch: " + action);
+            }
+            actions.add(new Action(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                firstIndex + actions.size()));
+        }
+        return actions;
+    }
+
+}
@@ -0,0 +1,1051 @@
+package com.example.GameLogic;
+
+import com.example.model.Action;
+import com.example.model.Constants;
+import com.example.model.Direction;
+import com.example.model.DistanceFields;
+import com.example.model.EntityStore;
+import com.example.model.EntityTracker;
+import com.example.model.FixedPoint;
+import com.example.model.GameState;
+import com.example.model.Ghost;
+import com.example.model.GhostType;
+import com.example.model.Maps;
+import com.example.model.NavGraph;
+import com.example.model.Player;
+import com.example.model.Position;
+import com.example.model.SpatialGrid;
+import com.example.model.TileCoord;
+import com.example.model.TileGrid;
+import com.example.model.TileType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.model.Constants.*;
+
+public class GameController {
+
+    // Movement and collisions run in FixedPoint units so every client computes bit-identical positions
+    private static final int PLAYER_STEP = FixedPoint.perTick(PLAYER_SPEED);
+    private static final int PLAYER_FRIGHTENED_STEP = FixedPoint.perTick(PLAYER_FRIGHTENED_SPEED);
+    private static final int GHOST_STEP = FixedPoint.perTick(GHOST_SPEED);
+    private static final int GHOST_FRIGHTENED_STEP = FixedPoint.perTick(GHOST_FRIGHTENED_SPEED);
+    private static final int GHOST_RESPAWN_STEP = FixedPoint.perTick(GHOST_RESPAWN_SPEED);
+    private static final int CENTER_EPS = FixedPoint.fromPixels(CENTER_EPS_PX);
+    private static final int WALL_MARGIN = FixedPoint.fromPixels(0.1);
+    private static final long COLLISION_DISTANCE_PVG_SQ = square(FixedPoint.fromPixels(COLLISION_DISTANCE_PVG));
+    private static final long COLLISION_DISTANCE_PVP_SQ = square(FixedPoint.fromPixels(COLLISION_DISTANCE_PVP));
+    private static final Direction[] TIE_BREAK = {Direction.NORTH, Direction.WEST, Direction.SOUTH, Direction.EAST};
+
+    // Reused every tick so the movement and collision loops never allocate per entity
+    private final EntityStore entityStore = new EntityStore();
+    private final SpatialGrid spatialGrid = new SpatialGrid();
+
+    public GameState updateGameStateFor(GameState gameState, int tarclock) {
+        return updateGameStateFor(gameState, tarclock, null);
+    }
+
+    // When a history is given every replayed tick is recorded in it, so later rewinds can start from it
+    public GameState updateGameStateFor(GameState gameState, int tarclock, SnapshotHistory history) {
+        // updateGameState never mutates its input, so only copy when no tick is simulated
+        if (gameState.clock() >= tarclock) {
+            return deepCopyGameState(gameState);
+        }
+
+        while (gameState.clock() < tarclock) {
+            gameState = updateGameState(gameState, Constants.cleanActions.getActions(gameState.clock() + 1));
+            if (history != null) {
+                history.record(gameState, entityStore);
+            }
+        }
+        return gameState;
+    }
+
+    // Players, ghosts and the tracker are copied, the tile grid is shared copy-on-write:
+    // both states read the same tiles until either one writes a tile, which then copies the grid for itself
+    public GameState deepCopyGameState(GameState state) {
+        List<Player> copiedPlayers = copyPlayers(state.players());
+        List<Ghost> copiedGhosts = copyGhosts(state.ghosts());
+
+        return new GameState(state.clock(), copiedPlayers, copiedGhosts, state.tiles().copy(), state.winner(), state.entityTracker().copy());
+    }
+
+    private List<Player> copyPlayers(List<Player> players) {
+        List<Player> copied = new ArrayList<>(players.size());
+        for (Player p : players) {
+            copied.add(p.copy());
+        }
+        return copied;
+    }
+
+    private List<Ghost> copyGhosts(List<Ghost> ghosts) {
+        List<Ghost> copied = new ArrayList<>(ghosts.size());
+        for (Ghost g : ghosts) {
+            copied.add(g.copy());
+        }
+        return copied;
+    }
+
+    public GameState updateGameState(GameState gameState, List<Action> actions) {
+        gameState = deepCopyGameState(gameState);
+
+        EntityTracker entityTracker = gameState.entityTracker();
+
+        int newClock = gameState.clock() + 1;
+
+        updateRespawnTimers(gameState);
+        updatePlayerPowerTimers(gameState);
+        updateInvulnerabilityTimers(gameState);
+
+        if (entityTracker.getFrightenedTimerSec() > 0.0) {
+            entityTracker.setFrightenedTimerSec(entityTracker.getFrightenedTimerSec() - (1.0 / TARGET_FPS));
+            if (entityTracker.getFrightenedTimerSec() < 0.0) {
+                entityTracker.setFrightenedTimerSec(0.0);
+            }
+        }
+
+        handleActions(gameState, actions);
+
+        // Movement, collisions and pick-ups run over the primitive entity store and are written back to the objects afterwards,
+        // from then on until the next tick the store holds exactly the new state's players and ghosts
+        entityStore.load(gameState.players(), gameState.ghosts());
+        stepMovement(gameState);
+        updateSpatialGrid(gameState);
+        handlePvPcollitions(gameState);
+        GhostMovement(gameState);
+        updateSpatialGrid(gameState);
+        handleGhostPlayerCollisions(gameState);
+        handlePlayerGridPosition(gameState);
+        entityStore.store(gameState.players(), gameState.ghosts());
+
+        Player winner = gameState.winner();
+        if (winner == null) {
+            if (allPlayersDead(gameState) || allPointsGathered(gameState)) {
+                winner = getWinner(gameState);
+            }
+        }
+        TileGrid tiles = gameState.tiles();
+        handleFruitSpawning(gameState);
+
+        GameState newGameState = new GameState(
+            newClock,
+            gameState.players(),
+            gameState.ghosts(),
+            tiles,
+            winner,
+            entityTracker
+        );
+
+        return newGameState;
+    }
+
+    private void handleFruitSpawning(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+
+        if (entityTracker.getFruitCooldownTimer() > 0) {
+            entityTracker.setFruitCooldownTimer(entityTracker.getFruitCooldownTimer() - (1.0 / TARGET_FPS));
+            return;
+        }
+
+        int totalPoints = gameState.players().stream().mapToInt(Player::getPoints).sum();
+
+        if (entityTracker.isFruitOnMap()) return;
+
+        TileType fruitToSpawn = Maps.getFruitToSpawn(totalPoints);
+        if (fruitToSpawn == null) return;
+
+        TileGrid tiles = gameState.tiles();
+
+        int centerX = tiles.getWidth() / 2;
+        int centerY = tiles.getHeight() / 2;
+        int radius = 7;
+        List<int[]> candidates = new ArrayList<>();
+
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                int x = centerX + dx;
+                int y = centerY + dy;
+                if (x >= 0 && x < tiles.getWidth() && y >= 0 && y < tiles.getHeight()) {
+                    if (tiles.get(x, y) == TileType.EMPTY) {
+                        candidates.add(new int[]{x, y});
+                    }
+                }
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            int index = Math.abs(gameState.clock() * 31) % candidates.size();
+            int[] pos = candidates.get(index);
+            tiles.set(pos[0], pos[1], fruitToSpawn);
+            entityTracker.setFruitOnMap(true);
+        }
+    }
+
+    public GameState initializeGameState(int nrOfPlayers) {
+        List<Player> players = new ArrayList<>();
+        List<Ghost> ghosts = new ArrayList<>();
+        TileGrid tiles = Maps.getCurrentLevelTiles();
+
+        for (int i = 0; i < nrOfPlayers; i++) {
+            players.add(new Player(i));
+        }
+
+        for (GhostType type : GhostType.values()) {
+            ghosts.add(new Ghost(type));
+        }
+
+        return new GameState(
+            -1,
+            players,
+            ghosts,
+            tiles,
+            null,
+            new EntityTracker()
+        );
+    }
+
+    private void handleActions(GameState gameState, List<Action> actions) {
+        if (actions == null) {
+            return;
+        }
+
+        for (Action a : actions) {
+            if (a == null) {
+                continue;
+            }
+
+            Player player = gameState.players().stream()
+                .filter(p -> p.getId() == a.getPlayerId())
+                .findFirst()
+                .orElse(null);
+
+            if (player == null) {
+                continue;
+            }
+
+            Direction d = directionFromMove(a.getMove());
+            if (d != null) {
+                player.setIntendedDirection(d);
+            }
+
+        }
+    }
+
+    private void stepMovement(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+        EntityStore store = entityStore;
+        TileGrid tiles = gameState.tiles();
+
+        for (int i = 0; i < store.getPlayerCount(); i++) {
+            if (!store.isAlive(i)) {
+                continue;
+            }
+            int x = store.getX(i);
+            int y = store.getY(i);
+            Direction direction = store.getDirection(i);
+
+            int movementPerFrame = entityTracker.isPlayerFrightened(store, i) ? PLAYER_FRIGHTENED_STEP : PLAYER_STEP;
+
+            Direction intendedDir = store.getIntendedDirection(i);
+
+            if (intendedDir != null && intendedDir != direction) {
+                int gridX = store.getGridX(i);
+                int gridY = store.getGridY(i);
+                int gridCenterX = FixedPoint.fromGrid(gridX);
+                int gridCenterY = FixedPoint.fromGrid(gridY);
+
+                int diff = Math.abs(intendedDir.ordinal() - direction.ordinal());
+                boolean is90DegreeTurn = (diff == 1 || diff == 3);
+
+                if (is90DegreeTurn) {
+                    boolean shouldTurn = false;
+
+                    switch (direction) {
+                        case WEST, EAST -> {
+                            int nextX = x + (direction == Direction.EAST ? movementPerFrame
+                                : -movementPerFrame);
+                            boolean wouldCrossCenter = (x <= gridCenterX && nextX >= gridCenterX) ||
+                                (x >= gridCenterX && nextX <= gridCenterX);
+                            shouldTurn = wouldCrossCenter;
+                        }
+                        case NORTH, SOUTH -> {
+                            int nextY = y + (direction == Direction.SOUTH ? movementPerFrame
+                                : -movementPerFrame);
+                            boolean wouldCrossCenter = (y <= gridCenterY && nextY >= gridCenterY) ||
+                                (y >= gridCenterY && nextY <= gridCenterY);
+                            shouldTurn = wouldCrossCenter;
+                        }
+                    }
+
+                    if (shouldTurn) {
+                        int nextGridX = gridX;
+                        int nextGridY = gridY;
+                        switch (intendedDir) {
+                            case WEST -> nextGridX--;
+                            case EAST -> nextGridX++;
+                            case NORTH -> nextGridY--;
+                            case SOUTH -> nextGridY++;
+                        }
+
+                        if (nextGridX >= 0 && nextGridX < tiles.getWidth() &&
+                            nextGridY >= 0 && nextGridY < tiles.getHeight() &&
+                            tiles.get(nextGridX, nextGridY) != TileType.WALL) {
+
+                            x = gridCenterX;
+                            y = gridCenterY;
+                            direction = intendedDir;
+                        }
+                    }
+                } else {
+                    direction = intendedDir;
+                }
+            }
+
+            int dx = 0;
+            int dy = 0;
+
+            switch (direction) {
+                case WEST -> dx = -1;
+                case EAST -> dx = 1;
+                case NORTH -> dy = -1;
+                case SOUTH -> dy = 1;
+            }
+
+            x += dx * movementPerFrame;
+            y += dy * movementPerFrame;
+
+            int mapWidth = FixedPoint.fromGrid(tiles.getWidth());
+            int mapHeight = FixedPoint.fromGrid(tiles.getHeight());
+
+            // Wrap around at map boundaries
+            if (x < 0) {
+                x += mapWidth;
+            } else if (x >= mapWidth) {
+                x -= mapWidth;
+            }
+
+            if (y < 0) {
+                y += mapHeight;
+            } else if (y >= mapHeight) {
+                y -= mapHeight;
+            }
+
+            // Skip wall collision check if player is in wrap-around zone (at the edges)
+            // A small margin helps avoid getting stuck on walls exactly at the boundary
+            boolean inWrapZone = x < FixedPoint.ONE || y < FixedPoint.ONE ||
+                x >= mapWidth - FixedPoint.ONE ||
+                y >= mapHeight - FixedPoint.ONE;
+
+            if (!inWrapZone) {
+                int margin = WALL_MARGIN;
+
+                if (isWall(tiles, x + margin, y + margin) ||
+                    isWall(tiles, x + FixedPoint.TILE - margin, y + margin) ||
+                    isWall(tiles, x + margin, y + FixedPoint.TILE - margin) ||
+                    isWall(tiles, x + FixedPoint.TILE - margin, y + FixedPoint.TILE - margin)) {
+
+                    int targetGridX = FixedPoint.toGrid(x);
+                    int targetGridY = FixedPoint.toGrid(y);
+
+                    int maxIterations = tiles.getHeight() + tiles.getWidth();
+                    int iterations = 0;
+                    while (iterations < maxIterations) {
+                        if (targetGridX >= 0 && targetGridX < tiles.getWidth() &&
+                            targetGridY >= 0 && targetGridY < tiles.getHeight() &&
+                            tiles.get(targetGridX, targetGridY) != TileType.WALL) {
+                            break;
+                        }
+                        targetGridX -= dx;
+                        targetGridY -= dy;
+                        iterations++;
+                    }
+
+                    if (iterations < maxIterations) {
+                        x = FixedPoint.fromGrid(targetGridX);
+                        y = FixedPoint.fromGrid(targetGridY);
+                    }
+                }
+            }
+
+            store.setX(i, x);
+            store.setY(i, y);
+            store.setDirection(i, direction);
+        }
+    }
+
+    private void handlePlayerGridPosition(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+        EntityStore store = entityStore;
+        TileGrid tiles = gameState.tiles();
+        for (int player = 0; player < store.getPlayerCount(); player++) {
+            if (!store.isAlive(player) || store.getRespawnTimer(player) > 0.0) continue;
+
+            int tileX = store.getGridX(player);
+            int tileY = store.getGridY(player);
+
+            if (tileY < 0 || tileY >= tiles.getHeight() || tileX < 0 || tileX >= tiles.getWidth()) continue;
+
+            TileType tileType = tiles.get(tileX, tileY);
+            if (tileType == TileType.CHERRY || tileType == TileType.STRAWBERRY || tileType == TileType.ORANGE || tileType == TileType.APPLE || tileType == TileType.MELON) {
+                store.setAteFruit(player, true);
+                entityTracker.setFruitCooldownTimer(FRUIT_RESPAWN_DELAY_SEC);
+                entityTracker.setFruitOnMap(false);
+            }
+
+            boolean isPowerup = tileType == TileType.ENERGIZER;
+            boolean powerupActive = entityTracker.isAnyPowerActive();
+
+            boolean pickObjectUp = !powerupActive || !isPowerup;
+
+            if (!pickObjectUp) continue;
+
+            if (isPowerup) {
+                entityTracker.assignPowerTo(store, player);
+
+                for (int other = 0; other < store.getPlayerCount(); other++) {
+                    if (store.getId(other) != store.getId(player)) {
+                        store.setPowerUpTimer(other, 0.0);
+                    }
+                }
+
+                store.setAtePowerUp(player, true);
+                store.setPowerUpTimer(player, FRIGHTENED_DURATION_SEC);
+                entityTracker.setFrightenedTimerSec(FRIGHTENED_DURATION_SEC);
+
+                reverseGhosts(store);
+            }
+
+            store.addPoints(player, tileType.points);
+
+            switch (tileType) {
+                case EMPTY, WALL -> { }
+                default -> tiles.set(tileX, tileY, TileType.EMPTY);
+            }
+        }
+    }
+
+    private Direction directionFromMove(int move) {
+        return switch (move) {
+            case 1 -> Direction.WEST;
+            case 2 -> Direction.EAST;
+            case 3 -> Direction.NORTH;
+            case 4 -> Direction.SOUTH;
+            default -> null;
+        };
+    }
+
+    private boolean isWall(TileGrid tiles, int x, int y) {
+        int gridX = x / FixedPoint.TILE;
+        int gridY = y / FixedPoint.TILE;
+
+        if (gridX < 0 || gridX >= tiles.getWidth() || gridY < 0 || gridY >= tiles.getHeight()) {
+            return false;
+        }
+
+        return tiles.get(gridX, gridY) == TileType.WALL;
+    }
+
+    private Direction getGhostDir(EntityStore store, int ghost) {
+        Direction d = store.getDirection(ghost);
+        return (d != null) ? d : Direction.WEST;
+    }
+
+    private Direction oppositeDir(Direction dir) {
+        return switch (dir) {
+            case NORTH -> Direction.SOUTH;
+            case SOUTH -> Direction.NORTH;
+            case EAST -> Direction.WEST;
+            case WEST -> Direction.EAST;
+        };
+    }
+
+    private Direction chooseBestDirTowardTarget(NavGraph nav, int gx, int gy, Direction currentDir,
+                                                int targetX, int targetY) {
+        return chooseBestDir(nav, gx, gy, currentDir, targetX, targetY, false);
+    }
+
+    private Direction chooseBestDirAwayFromPlayer(NavGraph nav, int gx, int gy, Direction currentDir,
+                                                  int playerX, int playerY) {
+        return chooseBestDir(nav, gx, gy, currentDir, playerX, playerY, true);
+    }
+
+    // Exits of the tile without reversing, or any exit at a dead end, then the closest (or farthest)
+    // neighbour to the target wins, ties broken in the order NORTH, WEST, SOUTH, EAST
+    private Direction chooseBestDir(NavGraph nav, int gx, int gy, Direction currentDir,
+                                    int targetX, int targetY, boolean away) {
+        int exits = nav.exits(gx, gy);
+        int candidates = exits & ~NavGraph.bit(oppositeDir(currentDir));
+        if (candidates == 0) {
+            candidates = exits;
+        }
+        if (candidates == 0) {
+            return currentDir;
+        }
+
+        Direction best = currentDir;
+        int bestDist = away ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+        for (Direction d : TIE_BREAK) {
+            if ((candidates & NavGraph.bit(d)) == 0) {
+                continue;
+            }
+
+            int dx = targetX - (gx + NavGraph.dx(d));
+            int dy = targetY - (gy + NavGraph.dy(d));
+            int dist = dx * dx + dy * dy;
+
+            if (away ? dist > bestDist : dist < bestDist) {
+                bestDist = dist;
+                best = d;
+            }
+        }
+
+        return best;
+    }
+
+    // Same candidates as chooseBestDir, ranked by path distance to the target instead of straight line
+    private Direction chooseBestDirAlongPath(NavGraph nav, int gx, int gy, Direction currentDir, int target) {
+        int exits = nav.exits(gx, gy);
+        int candidates = exits & ~NavGraph.bit(oppositeDir(currentDir));
+        if (candidates == 0) {
+            candidates = exits;
+        }
+        if (candidates == 0) {
+            return currentDir;
+        }
+
+        DistanceFields distances = nav.getDistanceFields();
+        Direction best = null;
+        int bestDist = Integer.MAX_VALUE;
+
+        for (Direction d : TIE_BREAK) {
+            if ((candidates & NavGraph.bit(d)) == 0) {
+                continue;
+            }
+
+            int dist = distances.distance(target, gx + NavGraph.dx(d), gy + NavGraph.dy(d));
+            if (best == null || dist < bestDist) {
+                bestDist = dist;
+                best = d;
+            }
+        }
+
+        return best;
+    }
+
+    private int findNearestPlayer(EntityStore store, int ghost) {
+        int gx = store.getGridX(ghost);
+        int gy = store.getGridY(ghost);
+
+        int best = -1;
+        int bestDist2 = Integer.MAX_VALUE;
+
+        for (int p = 0; p < store.getPlayerCount(); p++) {
+            if (!store.isAlive(p) || store.getRespawnTimer(p) > 0.0) {
+                continue;
+            }
+
+            int dx = store.getGridX(p) - gx;
+            int dy = store.getGridY(p) - gy;
+            int dist2 = dx * dx + dy * dy;
+
+            if (dist2 < bestDist2 || (dist2 == bestDist2 && best != -1 && store.getId(p) < store.getId(best))) {
+                bestDist2 = dist2;
+                best = p;
+            }
+            if (best == -1) {
+                best = p;
+                bestDist2 = dist2;
+            }
+        }
+
+        return best;
+    }
+
+    // Target tiles are packed with TileCoord so choosing them never allocates
+    private int getScatterCorner(GameState gameState, GhostType type) {
+        int maxX = gameState.width() - 1;
+        int maxY = gameState.height() - 1;
+
+        return switch (type) {
+            case RED -> TileCoord.pack(maxX, 0);
+            case PINK -> TileCoord.pack(0, 0);
+            case CYAN -> TileCoord.pack(maxX, maxY);
+            case ORANGE -> TileCoord.pack(0, maxY);
+            case PURPLE -> TileCoord.pack(maxX / 2, maxY / 2);
+            default -> TileCoord.pack(maxX, 0);
+        };
+    }
+
+    private int computeGhostTargetTile(GameState gameState, EntityStore store, int ghost, int gx, int gy, int pac) {
+        int px = store.getGridX(pac);
+        int py = store.getGridY(pac);
+        Direction pDir = store.getDirection(pac);
+        GhostType type = store.getGhostType(ghost);
+
+        int maxX = gameState.width() - 1;
+        int maxY = gameState.height() - 1;
+
+        int redCorner = TileCoord.pack(maxX, 0);
+        int pinkCorner = TileCoord.pack(0, 0);
+        int blueCorner = TileCoord.pack(maxX, maxY);
+        int orangeCorner = TileCoord.pack(0, maxY);
+        int purpleCorner = TileCoord.pack(maxX / 2, maxY / 2);
+
+        if (gameState.entityTracker().isGhostScatterMode()) {
+            return switch (type) {
+                case RED -> redCorner;
+                case PINK -> pinkCorner;
+                case CYAN -> blueCorner;
+                case ORANGE -> orangeCorner;
+                case PURPLE -> purpleCorner;
+                default -> redCorner;
+            };
+        }
+
+        return switch (type) {
+            case RED -> TileCoord.pack(px, py);
+
+            case PINK -> {
+                int tx = px + 4 * (pDir == Direction.EAST ? 1 : pDir == Direction.WEST ? -1 : 0);
+                int ty = py + 4 * (pDir == Direction.SOUTH ? 1 : pDir == Direction.NORTH ? -1 : 0);
+                yield TileCoord.pack(tx, ty);
+            }
+
+            case CYAN -> {
+                int p2x = px + 2 * (pDir == Direction.EAST ? 1 : pDir == Direction.WEST ? -1 : 0);
+                int p2y = py + 2 * (pDir == Direction.SOUTH ? 1 : pDir == Direction.NORTH ? -1 : 0);
+
+                int blinky = -1;
+                for (int g = store.getPlayerCount(); g < store.size(); g++) {
+                    if (store.getGhostType(g) == GhostType.RED) {
+                        blinky = g;
+                        break;
+                    }
+                }
+
+                if (blinky == -1) {
+                    yield TileCoord.pack(p2x, p2y);
+                }
+
+                int bx = store.getGridX(blinky);
+                int by = store.getGridY(blinky);
+
+                int vx = p2x - bx;
+                int vy = p2y - by;
+
+                yield TileCoord.pack(p2x + vx, p2y + vy);
+            }
+
+            case ORANGE -> {
+                int dx = px - gx;
+                int dy = py - gy;
+                int dist2 = dx * dx + dy * dy;
+
+                if (dist2 > 8 * 8) {
+                    yield TileCoord.pack(px, py);
+                } else {
+                    yield orangeCorner;
+                }
+            }
+            case PURPLE -> {
+                int tx = px + -1 * (pDir == Direction.EAST ? 1 : pDir == Direction.WEST ? -1 : 0);
+                int ty = py + -1 * (pDir == Direction.SOUTH ? 1 : pDir == Direction.NORTH ? -1 : 0);
+                yield TileCoord.pack(tx, ty);
+            }
+
+            default -> TileCoord.pack(px, py);
+        };
+    }
+
+    private void GhostMovement(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+        EntityStore store = entityStore;
+
+        if (store.getGhostCount() == 0) return;
+        if (store.getPlayerCount() == 0) return;
+
+        TileGrid tiles = gameState.tiles();
+        if (tiles == null) return;
+        NavGraph nav = tiles.getNavGraph();
+
+        boolean frightened = entityTracker.getFrightenedTimerSec() > 0.0;
+
+        if (!frightened) {
+            entityTracker.setGhostChaseTimer(entityTracker.getGhostChaseTimer() + (1.0 / TARGET_FPS));
+            if (entityTracker.isGhostScatterMode() && entityTracker.getGhostChaseTimer() >= 7.0) {
+                entityTracker.setGhostScatterMode(false);
+                entityTracker.setGhostChaseTimer(0.0);
+                reverseGhosts(store);
+            } else if (!entityTracker.isGhostScatterMode() && entityTracker.getGhostChaseTimer() >= 20.0) {
+                entityTracker.setGhostScatterMode(true);
+                entityTracker.setGhostChaseTimer(0.0);
+                reverseGhosts(store);
+            }
+        }
+
+        for (int ghost = store.getPlayerCount(); ghost < store.size(); ghost++) {
+            int targetPlayer = findNearestPlayer(store, ghost);
+
+            int x = store.getX(ghost);
+            int y = store.getY(ghost);
+            Direction dir = getGhostDir(store, ghost);
+
+            int mapWidth = FixedPoint.fromGrid(tiles.getWidth());
+            int mapHeight = FixedPoint.fromGrid(tiles.getHeight());
+
+            // Wrap position first to ensure valid grid calculation for direction decisions
+            if (x < 0) {
+                x += mapWidth;
+            } else if ((x + FixedPoint.TILE) >= mapWidth) {
+                x -= mapWidth;
+            }
+            if (y < 0) {
+                y += mapHeight;
+            } else if ((y + FixedPoint.TILE) >= mapHeight) {
+                y -= mapHeight;
+            }
+
+            int gx = FixedPoint.toGrid(x);
+            int gy = FixedPoint.toGrid(y);
+
+            int centerX = FixedPoint.fromGrid(gx);
+            int centerY = FixedPoint.fromGrid(gy);
+
+            boolean nearCenter =
+                Math.abs(x - centerX) < CENTER_EPS && Math.abs(y - centerY) < CENTER_EPS;
+            if (nearCenter) {
+                x = centerX;
+                y = centerY;
+
+                boolean blockedAhead = !nav.canExit(gx, gy, dir);
+                boolean atIntersection = nav.isJunction(gx, gy);
+
+                if (blockedAhead || atIntersection) {
+                    if (store.getRespawnTimer(ghost) > 0) {
+                        // Respawning ghost follows the shortest path back to its spawn location
+                        dir = chooseBestDirAlongPath(nav, gx, gy, dir, TileCoord.pack(store.getSpawnGridX(ghost), store.getSpawnGridY(ghost)));
+                    } else if (targetPlayer != -1 && frightened) {
+                        dir = chooseBestDirAwayFromPlayer(nav, gx, gy, dir, store.getGridX(targetPlayer), store.getGridY(targetPlayer));
+                    } else {
+                        int targetTile;
+                        if (targetPlayer == -1) {
+                            targetTile = getScatterCorner(gameState, store.getGhostType(ghost));
+                        } else {
+                            targetTile = computeGhostTargetTile(gameState, store, ghost, gx, gy, targetPlayer);
+                        }
+                        dir = chooseBestDirTowardTarget(nav, gx, gy, dir, TileCoord.x(targetTile),
+                            TileCoord.y(targetTile));
+                    }
+                    store.setDirection(ghost, dir);
+                }
+            } else {
+                if (!nav.canExit(gx, gy, dir)) {
+                    x = centerX;
+                    y = centerY;
+                }
+            }
+
+            int dx = 0, dy = 0;
+            switch (dir) {
+                case WEST -> dx = -1;
+                case EAST -> dx = 1;
+                case NORTH -> dy = -1;
+                case SOUTH -> dy = 1;
+            }
+
+            int movePerFrame = store.getRespawnTimer(ghost) > 0 ? GHOST_RESPAWN_STEP : frightened ? GHOST_FRIGHTENED_STEP : GHOST_STEP;
+
+            x += dx * movePerFrame;
+            y += dy * movePerFrame;
+
+            if (x < 0) {
+                x += mapWidth;
+            } else if (x >= mapWidth) {
+                x -= mapWidth;
+            }
+            if (y < 0) {
+                y += mapHeight;
+            } else if (y >= mapHeight) {
+                y -= mapHeight;
+            }
+
+            // Skip wall collision check if ghost is in wrap-around zone
+            boolean inWrapZone = x < FixedPoint.ONE || y < FixedPoint.ONE ||
+                x >= mapWidth - FixedPoint.ONE ||
+                y >= mapHeight - FixedPoint.ONE;
+
+            if (!inWrapZone) {
+                int margin = WALL_MARGIN;
+                if (isWall(tiles, x + margin, y + margin) ||
+                    isWall(tiles, x + FixedPoint.TILE - margin, y + margin) ||
+                    isWall(tiles, x + margin, y + FixedPoint.TILE - margin) ||
+                    isWall(tiles, x + FixedPoint.TILE - margin, y + FixedPoint.TILE - margin)) {
+
+                    int targetGridX = FixedPoint.toGrid(x);
+                    int targetGridY = FixedPoint.toGrid(y);
+
+                    int maxIterations = tiles.getHeight() + tiles.getWidth();
+                    int iterations = 0;
+                    while (iterations < maxIterations) {
+                        if (targetGridX >= 0 && targetGridX < tiles.getWidth() &&
+                            targetGridY >= 0 && targetGridY < tiles.getHeight() &&
+                            tiles.get(targetGridX, targetGridY) != TileType.WALL) {
+                            break;
+                        }
+                        targetGridX -= dx;
+                        targetGridY -= dy;
+                        iterations++;
+                    }
+
+                    if (iterations < maxIterations) {
+                        x = FixedPoint.fromGrid(targetGridX);
+                        y = FixedPoint.fromGrid(targetGridY);
+                    }
+                }
+            }
+
+            store.setX(ghost, x);
+            store.setY(ghost, y);
+        }
+    }
+
+    private void reverseGhosts(EntityStore store) {
+        for (int ghost = store.getPlayerCount(); ghost < store.size(); ghost++) {
+            store.setDirection(ghost, oppositeDir(getGhostDir(store, ghost)));
+        }
+    }
+
+    private void handleGhostPlayerCollisions(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+        EntityStore store = entityStore;
+
+        boolean frightened = entityTracker.getFrightenedTimerSec() > 0.0;
+
+        for (int player = 0; player < store.getPlayerCount(); player++) {
+            if (!store.isAlive(player) || store.getRespawnTimer(player) > 0.0) continue;
+
+            // spawn protection
+            if (store.isInvulnerable(player)) continue;
+
+            int nearby = spatialGrid.query(player, store.getPlayerCount(), store.size());
+            for (int k = 0; k < nearby; k++) {
+                int ghost = spatialGrid.found(k);
+                if (store.getRespawnTimer(ghost) > 0.0) continue;
+
+                if (store.distanceSquared(player, ghost) > COLLISION_DISTANCE_PVG_SQ) continue;
+
+                if (frightened) {
+                    if (entityTracker.isPowerOwner(store, player)) {
+                        store.eatGhost(player);
+                        store.setRespawnTimer(ghost, GHOST_RESPAWN_DELAY_SEC);
+                    }
+                    continue;
+                }
+
+                store.loseLife(player);
+
+                store.setAlive(player, false);
+                store.setRespawnTimer(player, PLAYER_RESPAWN_DELAY_SEC);
+                store.setIntendedDirection(player, null);
+                break;
+            }
+        }
+    }
+
+    private void updateRespawnTimers(GameState gameState) {
+        double dt = 1.0 / TARGET_FPS;
+
+        gameState.players().forEach(p -> {
+            if (p.getRespawnTimer() > 0.0) {
+                p.setRespawnTimer(Math.max(0.0, p.getRespawnTimer() - dt));
+
+                if (p.getRespawnTimer() == 0.0 && p.getLives() > 0) {
+                    Position sp = p.getSpawnPosition();
+                    if (sp != null) {
+                        p.setPosition(new Position(sp.x, sp.y));
+                    }
+                    p.setAlive(true);
+                    p.setDirection(Direction.EAST);
+                    p.setIntendedDirection(null);
+                    p.setInvulnerableTimer(Constants.PLAYER_SPAWN_PROTECT_SEC);
+                }
+            }
+
+            if (p.getRespawnTimer() <= 0 && p.getLives() <= 0) {
+                p.setDeadWithNoHearts(true);
+            }
+        });
+
+        gameState.ghosts().forEach(g -> g.setRespawnTimer(Math.max(0.0, g.getRespawnTimer() - dt)));
+    }
+
+    private void updatePlayerPowerTimers(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+        double dt = 1.0 / TARGET_FPS;
+
+        for (Player p : gameState.players()) {
+            if (p == null) continue;
+
+            if (p.getPowerUpTimer() > 0.0) {
+                p.setPowerUpTimer(Math.max(0.0, p.getPowerUpTimer() - dt));
+            }
+        }
+
+        boolean cleared = entityTracker.clearPowerIfOwnerInvalid(gameState.players());
+        if (cleared) {
+            entityTracker.setFrightenedTimerSec(0.0);
+        }
+    }
+
+    private void handlePvPcollitions(GameState gameState) {
+        EntityTracker entityTracker = gameState.entityTracker();
+        EntityStore store = entityStore;
+        int players = store.getPlayerCount();
+        if (players < 2) return;
+
+        for (int a = 0; a < players; a++) {
+            if (!isPlayerCollidable(store, a)) continue;
+
+            // Pushing two players apart moves a, so the neighbours after b are looked up again from its new cell
+            int from = a + 1;
+            while (from < players) {
+                int nearby = spatialGrid.query(a, from, players);
+                int pushed = -1;
+                boolean ate = false;
+
+                for (int k = 0; k < nearby; k++) {
+                    int b = spatialGrid.found(k);
+                    if (!isPlayerCollidable(store, b)) continue;
+
+                    if (store.distanceSquared(a, b) > COLLISION_DISTANCE_PVP_SQ) continue;
+
+                    boolean aPow = entityTracker.isPowerOwner(store, a);
+                    boolean bPow = entityTracker.isPowerOwner(store, b);
+
+                    if (aPow ^ bPow) {
+                        int eater = aPow ? a : b;
+                        int victim = aPow ? b : a;
+
+                        eatPlayer(store, eater, victim);
+                        ate = true;
+                        break;
+                    }
+                    resolvePlayerOverlap(store, a, b);
+                    spatialGrid.move(store, a);
+                    spatialGrid.move(store, b);
+                    pushed = b;
+                    break;
+                }
+
+                if (ate || pushed == -1) break;
+                from = pushed + 1;
+            }
+        }
+    }
+
+    private void updateSpatialGrid(GameState gameState) {
+        TileGrid tiles = gameState.tiles();
+        if (tiles == null) {
+            spatialGrid.update(entityStore, 1, 1);
+        } else {
+            spatialGrid.update(entityStore, tiles.getWidth(), tiles.getHeight());
+        }
+    }
+
+    private boolean isPlayerCollidable(EntityStore store, int p) {
+        return store.isAlive(p)
+            && store.getRespawnTimer(p) <= 0.0
+            && !store.isInvulnerable(p);
+    }
+
+
+    private void eatPlayer(EntityStore store, int eater, int victim) {
+        store.addPoints(eater, 500);
+
+        int livesLeft = Math.max(0, store.getLives(victim) - 1);
+        store.setLives(victim, livesLeft);
+
+        store.setAlive(victim, false);
+        store.setRespawnTimer(victim, PLAYER_RESPAWN_DELAY_SEC);
+        store.setIntendedDirection(victim, null);
+
+        store.setPowerUpTimer(victim, 0.0);
+    }
+
+    private void resolvePlayerOverlap(EntityStore store, int a, int b) {
+        int ax = store.getX(a);
+        int ay = store.getY(a);
+        int bx = store.getX(b);
+        int by = store.getY(b);
+
+        int overlapX = Math.min(ax, bx) + FixedPoint.TILE - Math.max(ax, bx);
+        int overlapY = Math.min(ay, by) + FixedPoint.TILE - Math.max(ay, by);
+
+        if (overlapX <= 0 || overlapY <= 0) return;
+
+        // The second player takes the odd unit, so the two are always pushed exactly apart
+        if (overlapX < overlapY) {
+            int push = overlapX / 2;
+            int rest = overlapX - push;
+            if (ax < bx) {
+                store.setX(a, ax - push);
+                store.setX(b, bx + rest);
+            } else {
+                store.setX(a, ax + push);
+                store.setX(b, bx - rest);
+            }
+        } else {
+            int push = overlapY / 2;
+            int rest = overlapY - push;
+            if (ay < by) {
+                store.setY(a, ay - push);
+                store.setY(b, by + rest);
+            } else {
+                store.setY(a, ay + push);
+                store.setY(b, by - rest);
+            }
+        }
+    }
+
+    private void updateInvulnerabilityTimers(GameState gameState) {
+        double dt = 1.0 / TARGET_FPS;
+
+        for (Player p : gameState.players()) {
+            if (p == null) continue;
+
+            if (p.isInvulnerable()) {
+                p.setInvulnerableTimer(Math.max(0.0, p.getInvulnerableTimer() - dt));
+            }
+        }
+    }
+
+    private static long square(int value) {
+        return (long) value * value;
+    }
+
+    public boolean allPlayersDead(GameState gameState) {
+        for (Player player : gameState.players()) {
+            if (0 < player.getLives()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean allPointsGathered(GameState gameState) {
+        return gameState.tiles().allPointsGathered();
+    }
+
+    private Player getWinner(GameState gameState) {
+        List<Player> players = gameState.players();
+        Player winner = players.get(0);
+        for (Player player : players) {
+            if (winner.getPoints() < player.getPoints()) {
+                winner = player;
+            }
+        }
+        return winner;
+    }
+}
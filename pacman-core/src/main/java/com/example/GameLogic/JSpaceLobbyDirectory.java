@@ -0,0 +1,117 @@
+package com.example.GameLogic;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.RemoteSpace;
+import org.jspace.Space;
+
+import com.example.model.Constants;
+
+//The lobby directory service, a space of ("SHARD", index, nrOfShards, gateURI) tuples
+//Every shard registers itself when it starts, and clients read the whole list once, waiting a bounded time for shards
+//that have not registered yet, then spread new lobbies over the shards like StaticLobbyDirectory
+public class JSpaceLobbyDirectory implements LobbyDirectory {
+
+    private static final String SHARD = "SHARD";
+
+    private static final long POLL_MILLIS = 20;
+
+    private final Space directory;
+    private final long timeoutMillis;
+    private volatile StaticLobbyDirectory shards;
+
+    public JSpaceLobbyDirectory(Space directory) {
+        this(directory, Constants.LOBBY_DIRECTORY_TIMEOUT_MILLIS);
+    }
+
+    //Reading the directory fails once not every shard has registered after timeoutMillis
+    public JSpaceLobbyDirectory(Space directory, long timeoutMillis) {
+        this.directory = directory;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public static JSpaceLobbyDirectory connect(String directoryURI) throws IOException {
+        return new JSpaceLobbyDirectory(new RemoteSpace(URIUtil.getDirectoryURI(directoryURI)));
+    }
+
+    //Replaces what an earlier run of the same shard registered
+    public static void register(Space directory, int shardIndex, int nrOfShards, String gateURI) throws InterruptedException {
+        directory.getp(new ActualField(SHARD), new ActualField(shardIndex), new FormalField(Integer.class), new FormalField(String.class));
+        directory.put(SHARD, shardIndex, nrOfShards, gateURI);
+    }
+
+    @Override
+    public List<String> shards() {
+        return load().shards();
+    }
+
+    @Override
+    public String shardForNewLobby() {
+        return load().shardForNewLobby();
+    }
+
+    private StaticLobbyDirectory load() {
+        StaticLobbyDirectory loaded = shards;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (shards == null) {
+                try {
+                    shards = new StaticLobbyDirectory(awaitShards());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reading the lobby directory", e);
+                }
+            }
+            return shards;
+        }
+    }
+
+    //Polls until every shard has registered, a failed read is not cached so the next call tries again
+    private List<String> awaitShards() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            List<Object[]> registered = directory.queryAll(new ActualField(SHARD), new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(String.class));
+            Set<Integer> counts = new TreeSet<>();
+            for (Object[] t : registered) {
+                counts.add((Integer) t[2]);
+            }
+            if (counts.size() > 1) {
+                throw new IllegalStateException("The shards in the lobby directory disagree on the number of shards: " + counts);
+            }
+
+            int nrOfShards = counts.isEmpty() ? 0 : counts.iterator().next();
+            String[] uris = new String[nrOfShards];
+            for (Object[] t : registered) {
+                int index = (Integer) t[1];
+                if (index < 0 || index >= nrOfShards) {
+                    throw new IllegalStateException("Shard " + index + " registered in a lobby directory of " + nrOfShards + " shards");
+                }
+                uris[index] = (String) t[3];
+            }
+            List<Integer> missing = new ArrayList<>();
+            for (int i = 0; i < nrOfShards; i++) {
+                if (uris[i] == null) {
+                    missing.add(i);
+                }
+            }
+            if (nrOfShards > 0 && missing.isEmpty()) {
+                return List.of(uris);
+            }
+
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException(nrOfShards == 0
+                    ? "No shard registered in the lobby directory within " + timeoutMillis + " ms"
+                    : "Shards " + missing + " of " + nrOfShards + " did not register in the lobby directory within " + timeoutMillis + " ms");
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.GameLogic;
+
+import java.util.List;
+
+//Which server process (shard) owns which lobby, when lobbies are spread over several servers
+//Lobby ids are split between the shards by id modulo the number of shards, so once a client knows
+//the list of shards it finds the owner of any lobby without asking anyone
+public interface LobbyDirectory {
+
+    //Gate URIs of the shards, the shard at index k owns the lobby ids that are k modulo the number of shards
+    List<String> shards();
+
+    //Shard to create the next lobby on
+    String shardForNewLobby();
+
+    default String shardFor(int lobbyID) {
+        List<String> shards = shards();
+        return shards.get(shardOf(lobbyID, shards.size()));
+    }
+
+    static int shardOf(int lobbyID, int nrOfShards) {
+        return Math.floorMod(lobbyID, nrOfShards);
+    }
+}
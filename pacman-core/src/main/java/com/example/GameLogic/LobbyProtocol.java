@@ -0,0 +1,136 @@
+package com.example.GameLogic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+//Frames of the lobby protocol spoken between NioLobbyServer and NioLobbyTransport
+//A frame is a 4 byte big-endian length, then a type byte and the fields of that type,
+//ints as varints, hashes as 8 bytes and actions in ActionCodec's encoding
+//The protocol is the jSpace one in frames: every request does what the client used to do with a tuple
+//Requests that are answered start with a request id the client picks, and the answer starts with the same id,
+//so a client can have many requests open on one connection and answers can come back in any order
+//Frames that are not an answer to a request carry NO_REQUEST where the id would be
+public final class LobbyProtocol {
+
+    public static final int MAX_FRAME = 1 << 16;
+    public static final int NO_REQUEST = 0;
+
+    //Client to server
+    public static final int CREATE = 1;       //requestID, nrOfPlayers, answered with LOBBY once the lobby exists
+    public static final int JOIN = 2;         //requestID, lobbyID, answered with JOINED or ERROR
+    public static final int READY = 3;        //requestID, lobbyID, playerID, nrOfPlayers, answered with START once every player is ready
+    public static final int QUIT = 4;         //lobbyID, playerID, nrOfPlayers
+    public static final int IS_FREE = 5;      //requestID, lobbyID, answered with FREE
+    public static final int RAW_ACTION = 6;   //lobbyID, raw action
+    public static final int SUBSCRIBE = 7;    //lobbyID, from, answered with CLEAN_ACTIONS for as long as the connection is open
+    public static final int STATE_HASH = 8;   //lobbyID, playerID, clock, hash
+    public static final int CREATE_JOIN = 9;  //requestID, nrOfPlayers, answered with LOBBY_JOINED once the lobby exists and has a player id for the client
+
+    //Server to client
+    public static final int LOBBY = 16;         //requestID, lobbyID
+    public static final int JOINED = 17;        //requestID, playerID, nrOfPlayers
+    public static final int START = 18;         //requestID
+    public static final int FREE = 19;          //requestID, 1 if the lobby is free, 0 if not
+    public static final int CLEAN_ACTIONS = 20; //lobbyID, count, clean actions following the previous frame for the lobby
+    public static final int ERROR = 21;         //requestID or NO_REQUEST, message
+    public static final int LOBBY_JOINED = 22;  //requestID, lobbyID, playerID, nrOfPlayers
+    public static final int LOBBY_CLOSED = 23;  //lobbyID, sent after the last CLEAN_ACTIONS of a lobby that has stopped
+
+    private LobbyProtocol() {
+    }
+
+    //Builds one frame, the length is filled in by finish
+    public static final class FrameWriter extends ByteArrayOutputStream {
+
+        public FrameWriter(int type) {
+            super(32);
+            write(0);
+            write(0);
+            write(0);
+            write(0);
+            write(type);
+        }
+
+        public FrameWriter varint(int value) {
+            try {
+                ActionCodec.writeVarint(value, this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        public FrameWriter int64(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+            return this;
+        }
+
+        public FrameWriter string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            write(bytes, 0, bytes.length);
+            return this;
+        }
+
+        public byte[] finish() {
+            int length = count - 4;
+            if (length > MAX_FRAME) {
+                throw new IllegalStateException("Frame of " + length + " bytes is larger than " + MAX_FRAME);
+            }
+            buf[0] = (byte) (length >>> 24);
+            buf[1] = (byte) (length >>> 16);
+            buf[2] = (byte) (length >>> 8);
+            buf[3] = (byte) length;
+            return toByteArray();
+        }
+    }
+
+    //A received frame, fields are read in the order they were written
+    public record Frame(int type, InputStream body) {
+
+        //body holds the type byte and the fields, without the length
+        public static Frame of(byte[] body) {
+            return new Frame(body[0] & 0xFF, new ByteArrayInputStream(body, 1, body.length - 1));
+        }
+
+        public int varint() throws IOException {
+            return ActionCodec.readVarint(body);
+        }
+
+        public long int64() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                int b = body.read();
+                if (b < 0) {
+                    throw new EOFException();
+                }
+                value = (value << 8) | b;
+            }
+            return value;
+        }
+
+        public String string() throws IOException {
+            byte[] bytes = body.readNBytes(varint());
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    //Blocks until a whole frame has been read
+    public static Frame readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0 || length > MAX_FRAME) {
+            throw new IOException("Frame of " + length + " bytes");
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        return Frame.of(body);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.GameLogic;
+
+import java.util.List;
+
+import com.example.model.Constants;
+import com.example.model.EntityStore;
+import com.example.model.EntityTracker;
+import com.example.model.GameState;
+import com.example.model.Ghost;
+import com.example.model.Player;
+import com.example.model.TileGrid;
+
+//Ring buffer of the most recent game states keyed by their clock
+//Lets a late action rewind to the tick right before it instead of replaying from an old saved state
+//A slot keeps its own entity store and tracker and overwrites them when a newer tick takes the slot,
+//so recording a tick allocates nothing but the tile grid's copy-on-write handle and the ring keeps no game state alive
+public class SnapshotHistory {
+
+    private static final class Snapshot {
+        private int clock;
+        private boolean recorded;
+        private final EntityStore entities = new EntityStore();
+        private final EntityTracker tracker = new EntityTracker();
+        private TileGrid tiles;
+        //-1 while nobody has won
+        private int winnerId;
+    }
+
+    private final Snapshot[] snapshots;
+    private int newestClock = Integer.MIN_VALUE;
+
+    public SnapshotHistory() {
+        this(Constants.SNAPSHOT_HISTORY_DEPTH);
+    }
+
+    public SnapshotHistory(int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("Snapshot history depth must be positive: " + depth);
+        }
+        this.snapshots = new Snapshot[depth];
+        for (int i = 0; i < depth; i++) {
+            snapshots[i] = new Snapshot();
+        }
+    }
+
+    //Copies the state into the slot of its clock, overwriting the snapshot that is now depth ticks old
+    public void record(GameState state) {
+        Snapshot snapshot = prepare(state);
+        snapshot.entities.load(state.players(), state.ghosts());
+    }
+
+    //Same, but copies the players and ghosts from a store that holds them already, as GameController's does right after a tick
+    void record(GameState state, EntityStore entities) {
+        Snapshot snapshot = prepare(state);
+        snapshot.entities.copyFrom(entities);
+    }
+
+    //Must be followed by filling the slot's entities
+    private Snapshot prepare(GameState state) {
+        int clock = state.clock();
+
+        //Recording an older clock means we rewound, so anything newer is no longer valid
+        if (clock < newestClock) {
+            for (int c = clock + 1; c <= newestClock && c <= clock + snapshots.length; c++) {
+                snapshots[slot(c)].recorded = false;
+            }
+        }
+
+        Snapshot snapshot = snapshots[slot(clock)];
+        snapshot.clock = clock;
+        snapshot.recorded = true;
+        snapshot.tracker.copyFrom(state.entityTracker());
+        //Shares the grid until either side writes a tile, and the snapshot never does
+        snapshot.tiles = state.tiles().copy();
+        snapshot.winnerId = state.winner() == null ? -1 : state.winner().getId();
+        newestClock = clock;
+        return snapshot;
+    }
+
+    //Returns a new game state equal to the one recorded at the given clock, or null if it has been recycled or was never recorded
+    public GameState get(int clock) {
+        Snapshot snapshot = snapshots[slot(clock)];
+        if (!snapshot.recorded || snapshot.clock != clock) {
+            return null;
+        }
+        List<Player> players = snapshot.entities.toPlayers();
+        List<Ghost> ghosts = snapshot.entities.toGhosts();
+        Player winner = null;
+        for (Player p : players) {
+            if (p.getId() == snapshot.winnerId) {
+                winner = p;
+            }
+        }
+        return new GameState(clock, players, ghosts, snapshot.tiles.copy(), winner, snapshot.tracker.copy());
+    }
+
+    public int getNewestClock() {
+        return newestClock;
+    }
+
+    public int getDepth() {
+        return snapshots.length;
+    }
+
+    public void clear() {
+        for (Snapshot snapshot : snapshots) {
+            snapshot.recorded = false;
+            snapshot.tiles = null;
+        }
+        newestClock = Integer.MIN_VALUE;
+    }
+
+    private int slot(int clock) {
+        return Math.floorMod(clock, snapshots.length);
+    }
+}
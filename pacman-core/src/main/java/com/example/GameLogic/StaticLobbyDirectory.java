@@ -0,0 +1,29 @@
+package com.example.GameLogic;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//A fixed list of shards, new lobbies are spread over them round robin
+//Stands in for the directory service with a single server and in tests
+public class StaticLobbyDirectory implements LobbyDirectory {
+
+    private final List<String> shards;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public StaticLobbyDirectory(List<String> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("A lobby directory needs at least one shard");
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public List<String> shards() {
+        return shards;
+    }
+
+    @Override
+    public String shardForNewLobby() {
+        return shards.get(Math.floorMod(next.getAndIncrement(), shards.size()));
+    }
+}
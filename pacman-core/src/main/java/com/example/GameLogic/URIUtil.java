@@ -10,6 +10,7 @@ public class URIUtil {
      * tcp://127.0.0.1:50000/5sync?keep
      * tcp://127.0.0.1:50000/5rawAction?keep
      * tcp://127.0.0.1:50000/5cleanAction?keep
+     * tcp://127.0.0.1:50000/5stateHash?keep
      */
     public static int getLobbyID(String lobbySpecificURI) {
         URI uri = parse(lobbySpecificURI);
@@ -52,6 +53,13 @@ public class URIUtil {
         return buildLobbyURI(baseURI, lobbyId, "cleanAction");
     }
 
+    /**
+     * Builds: tcp://host:port/{lobbyId}stateHash?keep (preserves base query if present)
+     */
+    public static String getStateHashURI(String baseURI, int lobbyId) {
+        return buildLobbyURI(baseURI, lobbyId, "stateHash");
+    }
+
     /**
      * Builds: tcp://host:port/space1?keep (preserves base query if present)
      */
@@ -59,6 +67,25 @@ public class URIUtil {
         return buildLobbyURI(baseURI, "space1");
     }
 
+    /**
+     * Builds: tcp://host:port/directory?keep (preserves base query if present)
+     */
+    public static String getDirectoryURI(String baseURI) {
+        return buildLobbyURI(baseURI, "directory");
+    }
+
+    /**
+     * Extracts the host of a gate URI like tcp://127.0.0.1:50000/?keep,
+     * for connections that go next to the gate rather than through it
+     */
+    public static String getHost(String baseURI) {
+        String host = parse(baseURI).getHost();
+        if (host == null) {
+            throw new IllegalArgumentException("Invalid URI (missing host): " + baseURI);
+        }
+        return host;
+    }
+
     // ---------- Helpers ----------
 
     private static String buildLobbyURI(String baseURI, int lobbyId, String actionSuffix) {
@@ -30,6 +30,11 @@ public class ActionList {
         return actionsOfClock;
     }
 
+    //Clock of the oldest action not yet handed out by getActions, meant to be checked after missedAction
+    public int getMissedActionClock(){
+        return actionsList.size() > nrOfActionsCalled ? actionsList.get(nrOfActionsCalled).clock() : Integer.MAX_VALUE;
+    }
+
     public boolean missedAction(int clock){
         if(actionsList.size() > nrOfActionsCalled && actionsList.get(nrOfActionsCalled).clock() < clock){
             if(actionsList.get(nrOfActionsCalled).getPlayerId() != playerID && Constants.timeOffset < Constants.TIME_OFFSET_CAP){
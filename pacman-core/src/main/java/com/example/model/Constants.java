@@ -0,0 +1,100 @@
+package com.example.model;
+
+import static com.example.model.Maps.getCurrentLevel;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class Constants {
+    //Constants
+    public final static long LOBBY_TTL = 300000;
+    public final static int NR_OF_LOBBYS_CAP = 1000;
+    public static ActionList cleanActions = new ActionList();
+
+    public static String REMOTE_PUBLIC_URI;
+    public static String LOCAL_GATE;
+    static { // Run with: 'mvn javafx:run -Djvm.options="-Doffline=true"' for offline mode
+        if (System.getProperty("offline") != null) {
+            REMOTE_PUBLIC_URI = "tcp://127.0.0.1:50000/?keep";
+            LOCAL_GATE = "tcp://127.0.0.1:50000/?keep";
+        } else {
+            REMOTE_PUBLIC_URI = "tcp://pacman.maximillian.info:50000/?keep";
+            LOCAL_GATE = "tcp://192.168.1.112:50000/?keep";
+        }
+        // A server can listen on and advertise other addresses with -Dgate=<uri> and -Dpublic=<uri>
+        LOCAL_GATE = System.getProperty("gate", LOCAL_GATE);
+        REMOTE_PUBLIC_URI = System.getProperty("public", REMOTE_PUBLIC_URI);
+    }
+
+    // Sharded deployment: run each server with -Dshard=<index> -Dshards=<count> -Ddirectory=<uri of the lobby directory>
+    // and clients with -Ddirectory=<uri>, a shard only hands out the lobby ids that are its index modulo the count
+    public final static int SHARD_INDEX = Integer.getInteger("shard", 0);
+    public final static int NR_OF_SHARDS = Integer.getInteger("shards", 1);
+    public final static String LOBBY_DIRECTORY_URI = System.getProperty("directory");
+    // How long a client waits for every shard to register before it gives up on the directory, -DdirectoryTimeout=<ms>
+    public final static int LOBBY_DIRECTORY_TIMEOUT_MILLIS = Integer.getInteger("directoryTimeout", 10000);
+
+    // Run with -Dtransport=binary to send actions over a plain TCP connection in ActionCodec's compact encoding
+    // instead of as jSpace tuples, the lobby handshake still goes through jSpace
+    // Run with -Dtransport=nio to speak the whole lobby protocol with the server's NIO lobby server instead of its jSpace gate
+    public final static boolean BINARY_TRANSPORT = "binary".equals(System.getProperty("transport"));
+    public final static boolean NIO_TRANSPORT = "nio".equals(System.getProperty("transport"));
+    // A server starts the listeners named in -Dlisteners=binary,nio next to its jSpace gate, by default only the one
+    // its own -Dtransport uses, so a dedicated server for clients of every transport runs with -Dlisteners=binary,nio
+    public final static String LISTENERS = System.getProperty("listeners", System.getProperty("transport", ""));
+    public final static boolean ACTION_CHANNEL_ENABLED = LISTENERS.contains("binary");
+    public final static boolean LOBBY_SERVER_ENABLED = LISTENERS.contains("nio");
+    // Ports of shard 0, moved with -DactionChannelPort=<port> and -DlobbyServerPort=<port> on servers and clients alike
+    // Shard i listens SHARD_PORT_STRIDE * i ports higher, so shards can share a host when shard i's gate is on 50000 + 10 * i
+    public final static int ACTION_CHANNEL_PORT = Integer.getInteger("actionChannelPort", 50001);
+    public final static int LOBBY_SERVER_PORT = Integer.getInteger("lobbyServerPort", 50002);
+    public final static int SHARD_PORT_STRIDE = 10;
+
+    public static int actionChannelPort(int shard) {
+        return ACTION_CHANNEL_PORT + SHARD_PORT_STRIDE * shard;
+    }
+
+    public static int lobbyServerPort(int shard) {
+        return LOBBY_SERVER_PORT + SHARD_PORT_STRIDE * shard;
+    }
+
+    // Size of a tile in the pixels the simulation moves in, the same on every map so speeds mean the same everywhere
+    // Map dimensions come with each level and are carried by the tile grid of the game state
+    public final static int TILE_SIZE = 25;
+    public final static int INIT_SCREEN_WIDTH = getCurrentLevel().getWidth() * TILE_SIZE;
+    public final static int INIT_SCREEN_HEIGHT = getCurrentLevel().getHeight() * TILE_SIZE;
+
+    public final static long TARGET_FPS = 20;
+    public static final double CENTER_EPS_PX = 1.5;
+
+    public final static int COUNTDOWN_DURATION_TICKS = 60;
+    public static final double COLLISION_DISTANCE_PVG = TILE_SIZE / 2.0;
+    public static final double COLLISION_DISTANCE_PVP = TILE_SIZE;
+
+    public static final double FRUIT_RESPAWN_DELAY_SEC = 5.0;
+    public static final double TIME_OFFSET_CAP = 8;
+    public final static int SNAPSHOT_HISTORY_DEPTH = 200;
+    // Clients publish a state hash every STATE_HASH_INTERVAL ticks, for the tick STATE_HASH_DELAY ticks in the past
+    // so late actions have settled (the delay must stay below SNAPSHOT_HISTORY_DEPTH)
+    public final static int STATE_HASH_INTERVAL = 20;
+    public final static int STATE_HASH_DELAY = 100;
+
+    // Player
+    public final static int PLAYER_LIVES = 3;
+    public final static double PLAYER_SPEED = 175;
+    public final static double PLAYER_FRIGHTENED_SPEED = PLAYER_SPEED * 0.75;
+    public final static double PLAYER_SPAWN_PROTECT_SEC = 2.0;
+    public static final double PLAYER_RESPAWN_DELAY_SEC = 2.0;
+
+    // Ghost
+    public static final double GHOST_SPEED = PLAYER_SPEED * .85;
+    public static final double GHOST_FRIGHTENED_SPEED = GHOST_SPEED * .65;
+    public static final double GHOST_RESPAWN_SPEED = GHOST_SPEED * 2;
+    public static final double GHOST_RESPAWN_DELAY_SEC = 8.0;
+    public final static double FRIGHTENED_DURATION_SEC = 8.0;
+
+    //Varibles
+    public static int clock = -COUNTDOWN_DURATION_TICKS;
+    public static int actionOffset = 6;
+    public static long timeOffset = 0;
+}
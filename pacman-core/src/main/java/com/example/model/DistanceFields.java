@@ -0,0 +1,85 @@
+package com.example.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Breadth-first distance fields over the maze, one per target tile, so the path distance
+//from any tile to a target is an array lookup
+//Fixed targets (ghost spawns) are computed when the level loads and kept for its lifetime,
+//any other target is computed on every call and not kept
+//Grids of the same level share one instance across lobbies and verifier threads, so it is thread safe
+public final class DistanceFields {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int width;
+    private final int height;
+    private final boolean[] walls;
+
+    private final Map<Integer, int[]> fixedFields = new ConcurrentHashMap<>();
+
+    DistanceFields(TileGrid tiles) {
+        this.width = tiles.getWidth();
+        this.height = tiles.getHeight();
+        this.walls = new boolean[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                walls[y * width + x] = tiles.get(x, y) == TileType.WALL;
+            }
+        }
+    }
+
+    //Keeps the field of a target for as long as the level is loaded, targets are TileCoord packed
+    public void precompute(int target) {
+        fixedFields.computeIfAbsent(target, this::compute);
+    }
+
+    //Steps from (x, y) to the target along the maze, coordinates outside the map wrap around
+    public int distance(int target, int x, int y) {
+        return field(target)[index(x, y)];
+    }
+
+    public int[] field(int target) {
+        int[] field = fixedFields.get(target);
+        return field != null ? field : compute(target);
+    }
+
+    public boolean isPrecomputed(int target) {
+        return fixedFields.containsKey(target);
+    }
+
+    private int[] compute(int target) {
+        int[] field = new int[width * height];
+        Arrays.fill(field, UNREACHABLE);
+        int[] queue = new int[width * height];
+
+        int start = index(TileCoord.x(target), TileCoord.y(target));
+        field[start] = 0;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+
+        //The target itself may be a wall (a scatter corner), the search starts from it regardless
+        while (head < tail) {
+            int i = queue[head++];
+            int x = i % width;
+            int y = i / width;
+            for (Direction d : DIRECTIONS) {
+                int next = index(x + NavGraph.dx(d), y + NavGraph.dy(d));
+                if (walls[next] || field[next] != UNREACHABLE) {
+                    continue;
+                }
+                field[next] = field[i] + 1;
+                queue[tail++] = next;
+            }
+        }
+        return field;
+    }
+
+    private int index(int x, int y) {
+        return Math.floorMod(y, height) * width + Math.floorMod(x, width);
+    }
+}
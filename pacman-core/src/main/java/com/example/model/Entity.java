@@ -1,6 +1,5 @@
 package com.example.model;
 
-import javafx.util.Pair;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,11 +13,20 @@ public abstract class Entity {
     @Getter @Setter
     protected double respawnTimer = 0.0;
 
-    protected Entity(Pair<Integer, Integer> spawnTile) {
-        this.spawnPosition = new Position().fromGridPosition(spawnTile);
+    //spawnTile is a TileCoord packed tile coordinate
+    protected Entity(int spawnTile) {
+        this.spawnPosition = Position.fromGridPosition(TileCoord.x(spawnTile), TileCoord.y(spawnTile));
         this.position = new Position(spawnPosition.x, spawnPosition.y);
     }
 
+    // Copies the mutable state of another entity, sharing its spawn position since that never changes
+    protected Entity(Entity other) {
+        this.spawnPosition = other.spawnPosition;
+        this.position = other.position != null ? new Position(other.position.x, other.position.y) : null;
+        this.direction = other.direction;
+        this.respawnTimer = other.respawnTimer;
+    }
+
     public void update() {
         //TODO
     }
@@ -0,0 +1,356 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+//Struct-of-arrays copy of the players and ghosts of a game state
+//GameController loads it from the objects at the start of a tick, runs movement, collisions and pick-ups over it
+//and stores the result back, after which it holds the new state's entities until the next tick
+//SnapshotHistory keeps one per recorded tick, filled with copyFrom, and reuses it for the tick that later takes its slot
+//Players use the indices [0, playerCount) and ghosts [playerCount, size), in the same order as the lists they were loaded from
+//Positions are kept in FixedPoint units, the objects keep pixels
+public class EntityStore {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final GhostType[] GHOST_TYPES = GhostType.values();
+    private static final byte NO_DIRECTION = -1;
+
+    private static final byte ALIVE = 1;
+    private static final byte LOST_HEART = 1 << 1;
+    private static final byte ATE_GHOST = 1 << 2;
+    private static final byte ATE_FRUIT = 1 << 3;
+    private static final byte ATE_POWER_UP = 1 << 4;
+    private static final byte DEAD_WITH_NO_HEARTS = 1 << 5;
+
+    @Getter
+    private int playerCount;
+    @Getter
+    private int ghostCount;
+
+    private int[] x;
+    private int[] y;
+    private int[] spawnX;
+    private int[] spawnY;
+    private double[] respawnTimer;
+    private double[] powerUpTimer;
+    private double[] invulnerableTimer;
+    private byte[] direction;
+    private byte[] intendedDirection;
+    private byte[] flags;
+    //Player id for players, ghost type ordinal for ghosts
+    private int[] id;
+    private int[] points;
+    private int[] lives;
+    private int[] ghostsEaten;
+
+    public EntityStore() {
+        this(8);
+    }
+
+    public EntityStore(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    //Copies players and ghosts into the arrays, growing them only when the state has more entities than before
+    public void load(List<Player> players, List<Ghost> ghosts) {
+        playerCount = players.size();
+        ghostCount = ghosts.size();
+        if (size() > x.length) {
+            allocate(size());
+        }
+
+        for (int i = 0; i < playerCount; i++) {
+            Player p = players.get(i);
+            loadEntity(i, p);
+            id[i] = p.getId();
+            points[i] = p.getPoints();
+            lives[i] = p.getLives();
+            ghostsEaten[i] = p.getGhostsEatenThisEnergizer();
+            powerUpTimer[i] = p.getPowerUpTimer();
+            invulnerableTimer[i] = p.getInvulnerableTimer();
+            intendedDirection[i] = toByte(p.getIntendedDirection());
+            flags[i] = (byte) ((p.isAlive() ? ALIVE : 0) | (p.isLostHeart() ? LOST_HEART : 0) | (p.isAteGhost() ? ATE_GHOST : 0)
+                | (p.isAteFruit() ? ATE_FRUIT : 0) | (p.isAtePowerUp() ? ATE_POWER_UP : 0) | (p.isDeadWithNoHearts() ? DEAD_WITH_NO_HEARTS : 0));
+        }
+
+        for (int g = 0; g < ghostCount; g++) {
+            Ghost ghost = ghosts.get(g);
+            int i = playerCount + g;
+            loadEntity(i, ghost);
+            id[i] = ghost.getType().ordinal();
+            points[i] = 0;
+            lives[i] = 0;
+            ghostsEaten[i] = 0;
+            powerUpTimer[i] = 0.0;
+            invulnerableTimer[i] = 0.0;
+            intendedDirection[i] = NO_DIRECTION;
+            flags[i] = 0;
+        }
+    }
+
+    //Writes the arrays back into the objects they were loaded from
+    public void store(List<Player> players, List<Ghost> ghosts) {
+        for (int i = 0; i < playerCount; i++) {
+            storePlayer(i, players.get(i));
+        }
+        for (int g = 0; g < ghostCount; g++) {
+            storeEntity(playerCount + g, ghosts.get(g));
+        }
+    }
+
+    //New players holding what the arrays hold, for reading a snapshot back into a game state
+    public List<Player> toPlayers() {
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player p = new Player(id[i]);
+            storePlayer(i, p);
+            players.add(p);
+        }
+        return players;
+    }
+
+    //New ghosts holding what the arrays hold, in the order they were loaded
+    public List<Ghost> toGhosts() {
+        List<Ghost> ghosts = new ArrayList<>(ghostCount);
+        for (int g = 0; g < ghostCount; g++) {
+            Ghost ghost = new Ghost(GHOST_TYPES[id[playerCount + g]]);
+            storeEntity(playerCount + g, ghost);
+            ghosts.add(ghost);
+        }
+        return ghosts;
+    }
+
+    //Makes this store hold the same entities as other, a handful of array copies that allocate only if other is larger
+    public void copyFrom(EntityStore other) {
+        playerCount = other.playerCount;
+        ghostCount = other.ghostCount;
+        int n = size();
+        if (n > x.length) {
+            allocate(n);
+        }
+        System.arraycopy(other.x, 0, x, 0, n);
+        System.arraycopy(other.y, 0, y, 0, n);
+        System.arraycopy(other.spawnX, 0, spawnX, 0, n);
+        System.arraycopy(other.spawnY, 0, spawnY, 0, n);
+        System.arraycopy(other.respawnTimer, 0, respawnTimer, 0, n);
+        System.arraycopy(other.powerUpTimer, 0, powerUpTimer, 0, n);
+        System.arraycopy(other.invulnerableTimer, 0, invulnerableTimer, 0, n);
+        System.arraycopy(other.direction, 0, direction, 0, n);
+        System.arraycopy(other.intendedDirection, 0, intendedDirection, 0, n);
+        System.arraycopy(other.flags, 0, flags, 0, n);
+        System.arraycopy(other.id, 0, id, 0, n);
+        System.arraycopy(other.points, 0, points, 0, n);
+        System.arraycopy(other.lives, 0, lives, 0, n);
+        System.arraycopy(other.ghostsEaten, 0, ghostsEaten, 0, n);
+    }
+
+    public int size() {
+        return playerCount + ghostCount;
+    }
+
+    // Position
+
+    public int getX(int i) {
+        return x[i];
+    }
+
+    public int getY(int i) {
+        return y[i];
+    }
+
+    public void setX(int i, int value) {
+        x[i] = value;
+    }
+
+    public void setY(int i, int value) {
+        y[i] = value;
+    }
+
+    public int getGridX(int i) {
+        return FixedPoint.toGrid(x[i]);
+    }
+
+    public int getGridY(int i) {
+        return FixedPoint.toGrid(y[i]);
+    }
+
+    public int getSpawnGridX(int i) {
+        return FixedPoint.toGrid(spawnX[i]);
+    }
+
+    public int getSpawnGridY(int i) {
+        return FixedPoint.toGrid(spawnY[i]);
+    }
+
+    //Compared against a squared radius, so collision checks need no square root
+    public long distanceSquared(int a, int b) {
+        long dx = x[a] - x[b];
+        long dy = y[a] - y[b];
+        return dx * dx + dy * dy;
+    }
+
+    // Direction
+
+    public Direction getDirection(int i) {
+        return toDirection(direction[i]);
+    }
+
+    public void setDirection(int i, Direction d) {
+        direction[i] = toByte(d);
+    }
+
+    public Direction getIntendedDirection(int i) {
+        return toDirection(intendedDirection[i]);
+    }
+
+    public void setIntendedDirection(int i, Direction d) {
+        intendedDirection[i] = toByte(d);
+    }
+
+    // Timers
+
+    public double getRespawnTimer(int i) {
+        return respawnTimer[i];
+    }
+
+    public void setRespawnTimer(int i, double value) {
+        respawnTimer[i] = value;
+    }
+
+    public double getPowerUpTimer(int i) {
+        return powerUpTimer[i];
+    }
+
+    public void setPowerUpTimer(int i, double value) {
+        powerUpTimer[i] = value;
+    }
+
+    public boolean isInvulnerable(int i) {
+        return invulnerableTimer[i] > 0.0;
+    }
+
+    // Player state
+
+    public int getId(int i) {
+        return id[i];
+    }
+
+    public GhostType getGhostType(int i) {
+        return GHOST_TYPES[id[i]];
+    }
+
+    public int getPoints(int i) {
+        return points[i];
+    }
+
+    public void addPoints(int i, int value) {
+        points[i] += value;
+    }
+
+    public int getLives(int i) {
+        return lives[i];
+    }
+
+    public void setLives(int i, int value) {
+        lives[i] = value;
+    }
+
+    public boolean isAlive(int i) {
+        return (flags[i] & ALIVE) != 0;
+    }
+
+    public void setAlive(int i, boolean alive) {
+        setFlag(i, ALIVE, alive);
+    }
+
+    //Mirrors Player.loseLife
+    public void loseLife(int i) {
+        if (lives[i] > 0) {
+            lives[i]--;
+            setFlag(i, LOST_HEART, true);
+        }
+    }
+
+    public void setAteFruit(int i, boolean ateFruit) {
+        setFlag(i, ATE_FRUIT, ateFruit);
+    }
+
+    public void setAtePowerUp(int i, boolean atePowerUp) {
+        setFlag(i, ATE_POWER_UP, atePowerUp);
+    }
+
+    //Mirrors Player.resetGhostsEatenThisEnergizer
+    public void resetGhostsEatenThisEnergizer(int i) {
+        ghostsEaten[i] = 0;
+    }
+
+    //Mirrors Player.eatGhost
+    public void eatGhost(int i) {
+        setFlag(i, ATE_GHOST, true);
+        points[i] += Player.pointsForGhost(ghostsEaten[i]);
+        ghostsEaten[i]++;
+    }
+
+    private void setFlag(int i, byte flag, boolean value) {
+        flags[i] = (byte) (value ? flags[i] | flag : flags[i] & ~flag);
+    }
+
+    private void storePlayer(int i, Player p) {
+        storeEntity(i, p);
+        p.setPoints(points[i]);
+        p.setLives(lives[i]);
+        p.setGhostsEatenThisEnergizer(ghostsEaten[i]);
+        p.setPowerUpTimer(powerUpTimer[i]);
+        p.setInvulnerableTimer(invulnerableTimer[i]);
+        p.setIntendedDirection(getIntendedDirection(i));
+        p.setAlive((flags[i] & ALIVE) != 0);
+        p.setLostHeart((flags[i] & LOST_HEART) != 0);
+        p.setAteGhost((flags[i] & ATE_GHOST) != 0);
+        p.setAteFruit((flags[i] & ATE_FRUIT) != 0);
+        p.setAtePowerUp((flags[i] & ATE_POWER_UP) != 0);
+        p.setDeadWithNoHearts((flags[i] & DEAD_WITH_NO_HEARTS) != 0);
+    }
+
+    private void loadEntity(int i, Entity e) {
+        x[i] = FixedPoint.fromPixels(e.getPosition().x);
+        y[i] = FixedPoint.fromPixels(e.getPosition().y);
+        spawnX[i] = FixedPoint.fromPixels(e.getSpawnPosition().x);
+        spawnY[i] = FixedPoint.fromPixels(e.getSpawnPosition().y);
+        respawnTimer[i] = e.getRespawnTimer();
+        direction[i] = toByte(e.getDirection());
+    }
+
+    private void storeEntity(int i, Entity e) {
+        e.getPosition().x = FixedPoint.toPixels(x[i]);
+        e.getPosition().y = FixedPoint.toPixels(y[i]);
+        e.setRespawnTimer(respawnTimer[i]);
+        e.setDirection(getDirection(i));
+    }
+
+    private void allocate(int capacity) {
+        x = new int[capacity];
+        y = new int[capacity];
+        spawnX = new int[capacity];
+        spawnY = new int[capacity];
+        respawnTimer = new double[capacity];
+        powerUpTimer = new double[capacity];
+        invulnerableTimer = new double[capacity];
+        direction = new byte[capacity];
+        intendedDirection = new byte[capacity];
+        flags = new byte[capacity];
+        id = new int[capacity];
+        points = new int[capacity];
+        lives = new int[capacity];
+        ghostsEaten = new int[capacity];
+    }
+
+    private static byte toByte(Direction d) {
+        return d == null ? NO_DIRECTION : (byte) d.ordinal();
+    }
+
+    private static Direction toDirection(byte b) {
+        return b == NO_DIRECTION ? null : DIRECTIONS[b];
+    }
+}
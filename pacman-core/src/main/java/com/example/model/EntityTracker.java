@@ -37,6 +37,13 @@ public class EntityTracker {
             && p.getRespawnTimer() <= 0.0;
     }
 
+    public boolean isPowerOwner(EntityStore store, int player) {
+        return store.getId(player) == this.powerOwnerId
+            && store.getPowerUpTimer(player) > 0.0
+            && store.isAlive(player)
+            && store.getRespawnTimer(player) <= 0.0;
+    }
+
     public void assignPowerTo(Player owner) {
         if (owner == null)
             return;
@@ -44,6 +51,11 @@ public class EntityTracker {
         owner.resetGhostsEatenThisEnergizer();
     }
 
+    public void assignPowerTo(EntityStore store, int owner) {
+        this.powerOwnerId = store.getId(owner);
+        store.resetGhostsEatenThisEnergizer(owner);
+    }
+
     public boolean clearPowerIfOwnerInvalid(List<Player> players) {
         if (this.powerOwnerId == -1)
             return false;
@@ -73,14 +85,23 @@ public class EntityTracker {
         return isAnyPowerActive() && !isPowerOwner(player) && !player.isInvulnerable();
     }
 
+    public boolean isPlayerFrightened(EntityStore store, int player) {
+        return isAnyPowerActive() && !isPowerOwner(store, player) && !store.isInvulnerable(player);
+    }
+
     public EntityTracker copy(){
         EntityTracker r = new EntityTracker();
-        r.setGhostScatterMode(ghostScatterMode);
-        r.setGhostChaseTimer(ghostChaseTimer);
-        r.setFrightenedTimerSec(frightenedTimerSec);
-        r.setPowerOwnerId(powerOwnerId);
-        r.setFruitCooldownTimer(fruitCooldownTimer);
-        r.setFruitOnMap(fruitOnMap);
+        r.copyFrom(this);
         return r;
     }
+
+    //Overwrites this tracker with another one, so a snapshot can keep reusing the same tracker
+    public void copyFrom(EntityTracker other){
+        ghostScatterMode = other.ghostScatterMode;
+        ghostChaseTimer = other.ghostChaseTimer;
+        frightenedTimerSec = other.frightenedTimerSec;
+        powerOwnerId = other.powerOwnerId;
+        fruitCooldownTimer = other.fruitCooldownTimer;
+        fruitOnMap = other.fruitOnMap;
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.model;
+
+import static com.example.model.Constants.TARGET_FPS;
+import static com.example.model.Constants.TILE_SIZE;
+
+//Sub-pixel fixed-point units the simulation moves entities in, 1 pixel = 256 units
+//Integer math gives the same result on every JVM and platform, and as 256 is a power of two
+//converting to pixels for rendering and back is exact
+public final class FixedPoint {
+
+    public static final int SHIFT = 8;
+    public static final int ONE = 1 << SHIFT;
+
+    public static final int TILE = TILE_SIZE * ONE;
+    public static final int HALF_TILE = TILE / 2;
+
+    private FixedPoint() {
+    }
+
+    //Rounds to the nearest unit
+    public static int fromPixels(double pixels) {
+        return (int) Math.round(pixels * ONE);
+    }
+
+    public static double toPixels(int units) {
+        return (double) units / ONE;
+    }
+
+    //Distance covered in one tick at the given speed in pixels per second
+    public static int perTick(double pixelsPerSecond) {
+        return fromPixels(pixelsPerSecond / TARGET_FPS);
+    }
+
+    //Same rounding as Position.toGrid: nearest tile, clamped at 0
+    public static int toGrid(int units) {
+        return Math.max(0, (units + HALF_TILE) / TILE);
+    }
+
+    public static int fromGrid(int grid) {
+        return grid * TILE;
+    }
+}
@@ -6,7 +6,17 @@ public record GameState(
     int clock,
     List<Player> players,
     List<Ghost> ghosts,
-    TileType[][] tiles,
+    TileGrid tiles,
     Player winner,
     EntityTracker entityTracker
-) { }
+) {
+
+    //Map dimensions in tiles
+    public int width() {
+        return tiles.getWidth();
+    }
+
+    public int height() {
+        return tiles.getHeight();
+    }
+}
@@ -12,11 +12,12 @@ public class Ghost extends Entity {
         this.direction = Direction.WEST;
     }
 
+    private Ghost(Ghost other) {
+        super(other);
+        this.type = other.type;
+    }
+
     public Ghost copy() {
-        Ghost copy = new Ghost(this.type);
-        copy.position = this.position != null ? new Position(this.position.x, this.position.y) : null;
-        copy.direction = this.direction;
-        copy.respawnTimer = this.respawnTimer;
-        return copy;
+        return new Ghost(this);
     }
 }
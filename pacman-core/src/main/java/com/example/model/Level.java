@@ -0,0 +1,155 @@
+package com.example.model;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+//A maze read from a level file, see resources/levels/level1.txt for the format
+//The file is read line by line straight into a tile grid, which is then only ever copied,
+//and as copies share their tiles until written to, starting a game on any size of map is O(1)
+public final class Level {
+
+    //Tile symbols indexed by TileType ordinal
+    private static final String SYMBOLS = " #.ocsramgbkXYZ";
+    private static final TileType[] TILE_TYPES = TileType.values();
+
+    private record FruitThreshold(int points, TileType fruit) { }
+
+    @Getter
+    private final String name;
+    private final TileGrid tiles;
+    //Spawn tiles are TileCoord packed tile coordinates
+    private final Map<GhostType, Integer> ghostSpawnTiles;
+    private final List<Integer> playerSpawnTiles;
+    //Highest threshold first
+    private final List<FruitThreshold> fruitThresholds;
+
+    private Level(String name, TileGrid tiles, Map<GhostType, Integer> ghostSpawnTiles,
+                  List<Integer> playerSpawnTiles, List<FruitThreshold> fruitThresholds) {
+        this.name = name;
+        this.tiles = tiles;
+        this.ghostSpawnTiles = ghostSpawnTiles;
+        this.playerSpawnTiles = playerSpawnTiles;
+        this.fruitThresholds = fruitThresholds;
+
+        //Walls never change during a level, so its navigation graph is built once and shared by every grid
+        //Distances to the spawn tiles eaten ghosts head back to are computed up front
+        NavGraph graph = NavGraph.build(tiles);
+        DistanceFields distances = graph.getDistanceFields();
+        for (int spawn : ghostSpawnTiles.values()) {
+            distances.precompute(spawn);
+        }
+        tiles.attachNavGraph(graph);
+    }
+
+    public int getWidth() {
+        return tiles.getWidth();
+    }
+
+    public int getHeight() {
+        return tiles.getHeight();
+    }
+
+    //A fresh grid for a new game, sharing the level's tiles until it is written to
+    public TileGrid newTiles() {
+        return tiles.copy();
+    }
+
+    public int getGhostSpawnTile(GhostType ghostType) {
+        return ghostSpawnTiles.get(ghostType);
+    }
+
+    public int getPlayerSpawnTile(int playerId) {
+        return playerSpawnTiles.get(playerId);
+    }
+
+    public TileType getFruitToSpawn(int totalPoints) {
+        for (FruitThreshold threshold : fruitThresholds) {
+            if (totalPoints >= threshold.points()) {
+                return threshold.fruit();
+            }
+        }
+        return null;
+    }
+
+    public static Level read(String name, Reader reader) throws IOException {
+        LineNumberReader in = new LineNumberReader(reader);
+        TileGrid tiles = null;
+        Map<GhostType, Integer> ghostSpawnTiles = new EnumMap<>(GhostType.class);
+        List<Integer> playerSpawnTiles = new ArrayList<>();
+        List<FruitThreshold> fruitThresholds = new ArrayList<>();
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("//")) {
+                continue;
+            }
+
+            String[] words = trimmed.split("\\s+");
+            try {
+                switch (words[0]) {
+                    case "size" -> tiles = new TileGrid(Integer.parseInt(words[1]), Integer.parseInt(words[2]));
+                    case "ghost" -> ghostSpawnTiles.put(GhostType.valueOf(words[1]),
+                        TileCoord.pack(Integer.parseInt(words[2]), Integer.parseInt(words[3])));
+                    case "player" -> playerSpawnTiles.add(
+                        TileCoord.pack(Integer.parseInt(words[1]), Integer.parseInt(words[2])));
+                    case "fruit" -> fruitThresholds.add(
+                        new FruitThreshold(Integer.parseInt(words[1]), TileType.valueOf(words[2])));
+                    case "tiles" -> readTiles(in, tiles);
+                    default -> throw new IllegalArgumentException("unknown key '" + words[0] + "'");
+                }
+            } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IllegalArgumentException(name + ":" + in.getLineNumber() + ": " + e.getMessage(), e);
+            }
+        }
+
+        if (tiles == null) {
+            throw new IllegalArgumentException(name + ": no size given");
+        }
+        for (GhostType type : GhostType.values()) {
+            if (!ghostSpawnTiles.containsKey(type)) {
+                throw new IllegalArgumentException(name + ": no spawn tile for ghost " + type);
+            }
+        }
+        if (playerSpawnTiles.isEmpty()) {
+            throw new IllegalArgumentException(name + ": no player spawn tiles");
+        }
+        fruitThresholds.sort(Comparator.comparingInt(FruitThreshold::points).reversed());
+
+        return new Level(name, tiles, ghostSpawnTiles, Collections.unmodifiableList(playerSpawnTiles),
+            List.copyOf(fruitThresholds));
+    }
+
+    //Reads one row per line, rows shorter than the map are padded with empty tiles
+    private static void readTiles(LineNumberReader in, TileGrid tiles) throws IOException {
+        if (tiles == null) {
+            throw new IllegalArgumentException("tiles given before size");
+        }
+
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            String row = in.readLine();
+            if (row == null) {
+                throw new IllegalArgumentException("expected " + tiles.getHeight() + " rows, got " + y);
+            }
+            if (row.length() > tiles.getWidth()) {
+                throw new IllegalArgumentException("row is wider than " + tiles.getWidth());
+            }
+            for (int x = 0; x < row.length(); x++) {
+                int ordinal = SYMBOLS.indexOf(row.charAt(x));
+                if (ordinal < 0) {
+                    throw new IllegalArgumentException("unknown tile '" + row.charAt(x) + "'");
+                }
+                tiles.set(x, y, TILE_TYPES[ordinal]);
+            }
+        }
+    }
+}
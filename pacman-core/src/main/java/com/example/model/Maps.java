@@ -0,0 +1,91 @@
+package com.example.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Levels are read from the level files listed in levels/levels.txt on the classpath,
+//or from a directory with its own levels.txt when run with -Dlevels=<dir>, so maps can be added without recompiling
+//Each level is read the first time it is played and kept for the rest of the run
+public class Maps {
+
+    private static final String LEVEL_DIR = System.getProperty("levels");
+    private static final String INDEX = "levels.txt";
+
+    private static final List<String> levelFiles = readIndex();
+    private static final Map<String, Level> loadedLevels = new ConcurrentHashMap<>();
+
+    private static int currentLevel = 0;
+
+    public static Level getCurrentLevel() {
+        return loadedLevels.computeIfAbsent(levelFiles.get(currentLevel), Maps::load);
+    }
+
+    public static TileGrid getCurrentLevelTiles() {
+        return getCurrentLevel().newTiles();
+    }
+
+    //Spawn tiles are TileCoord packed tile coordinates
+    public static int getGhostSpawnTile(GhostType ghostType) {
+        return getCurrentLevel().getGhostSpawnTile(ghostType);
+    }
+
+    public static int getPlayerSpawnTile(int playerId) {
+        return getCurrentLevel().getPlayerSpawnTile(playerId);
+    }
+
+    public static TileType getFruitToSpawn(int totalPoints) {
+        return getCurrentLevel().getFruitToSpawn(totalPoints);
+    }
+
+    public static void incrementLevel() {
+        currentLevel = (currentLevel + 1) % levelFiles.size();
+    }
+
+    private static List<String> readIndex() {
+        List<String> files = new ArrayList<>();
+        try (BufferedReader in = open(INDEX)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("//")) {
+                    files.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read level index " + INDEX, e);
+        }
+        if (files.isEmpty()) {
+            throw new IllegalStateException(INDEX + " lists no levels");
+        }
+        return files;
+    }
+
+    private static Level load(String file) {
+        try (Reader in = open(file)) {
+            return Level.read(file, in);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read level " + file, e);
+        }
+    }
+
+    private static BufferedReader open(String file) throws IOException {
+        if (LEVEL_DIR != null) {
+            return Files.newBufferedReader(Path.of(LEVEL_DIR, file), StandardCharsets.UTF_8);
+        }
+        InputStream stream = Maps.class.getResourceAsStream("/levels/" + file);
+        if (stream == null) {
+            throw new IOException("No level file " + file + " on the classpath");
+        }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+}
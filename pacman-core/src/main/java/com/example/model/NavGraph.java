@@ -0,0 +1,81 @@
+package com.example.model;
+
+//Valid exits of every tile of a map, so ghost steering is a table lookup instead of neighbour scans
+//Tiles outside the map are walkable, which is what lets entities wrap around the edges,
+//so the table has a one tile border and every tile beyond it can leave in all four directions
+public final class NavGraph {
+
+    public static final int ALL_EXITS = 0b1111;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int width;
+    private final int height;
+    //Bit d.ordinal() is set if the neighbour in direction d is walkable, indexed with the border included
+    private final byte[] exits;
+    //Path distances over the same walls
+    private final DistanceFields distanceFields;
+
+    private NavGraph(TileGrid tiles) {
+        this.width = tiles.getWidth();
+        this.height = tiles.getHeight();
+        this.exits = new byte[(width + 2) * (height + 2)];
+        this.distanceFields = new DistanceFields(tiles);
+    }
+
+    public static NavGraph build(TileGrid tiles) {
+        NavGraph graph = new NavGraph(tiles);
+        for (int y = -1; y <= graph.height; y++) {
+            for (int x = -1; x <= graph.width; x++) {
+                int mask = 0;
+                for (Direction d : DIRECTIONS) {
+                    if (isWalkable(tiles, x + dx(d), y + dy(d))) {
+                        mask |= bit(d);
+                    }
+                }
+                graph.exits[graph.index(x, y)] = (byte) mask;
+            }
+        }
+        return graph;
+    }
+
+    public int exits(int x, int y) {
+        if (x < -1 || x > width || y < -1 || y > height) {
+            return ALL_EXITS;
+        }
+        return exits[index(x, y)];
+    }
+
+    public DistanceFields getDistanceFields() {
+        return distanceFields;
+    }
+
+    public boolean canExit(int x, int y, Direction d) {
+        return (exits(x, y) & bit(d)) != 0;
+    }
+
+    //A tile where a ghost has to choose, three or more ways out
+    public boolean isJunction(int x, int y) {
+        return Integer.bitCount(exits(x, y)) >= 3;
+    }
+
+    public static int bit(Direction d) {
+        return 1 << d.ordinal();
+    }
+
+    public static int dx(Direction d) {
+        return d == Direction.EAST ? 1 : d == Direction.WEST ? -1 : 0;
+    }
+
+    public static int dy(Direction d) {
+        return d == Direction.SOUTH ? 1 : d == Direction.NORTH ? -1 : 0;
+    }
+
+    private int index(int x, int y) {
+        return (y + 1) * (width + 2) + (x + 1);
+    }
+
+    private static boolean isWalkable(TileGrid tiles, int x, int y) {
+        return !tiles.inBounds(x, y) || tiles.get(x, y) != TileType.WALL;
+    }
+}
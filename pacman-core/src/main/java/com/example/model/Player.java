@@ -1,6 +1,5 @@
 package com.example.model;
 
-import javafx.scene.paint.Color;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,7 +8,7 @@ public class Player extends Entity {
     @Getter
     private final int id;
 
-    @Setter
+    @Getter @Setter
     private int ghostsEatenThisEnergizer;
 
     @Getter @Setter
@@ -60,14 +59,18 @@ public class Player extends Entity {
 
     public void eatGhost() {
         ateGhost = true;
-        points += switch (ghostsEatenThisEnergizer) {
+        points += pointsForGhost(ghostsEatenThisEnergizer);
+        ghostsEatenThisEnergizer++;
+    }
+
+    public static int pointsForGhost(int ghostsEatenThisEnergizer) {
+        return switch (ghostsEatenThisEnergizer) {
             case 0 -> 200;
             case 1 -> 400;
             case 2 -> 800;
             case 3 -> 1600;
             default -> 3200;
         };
-        ghostsEatenThisEnergizer++;
     }
 
     public int loseLife() {
@@ -83,32 +86,24 @@ public class Player extends Entity {
         return lives <= 0;
     }
 
-    public Color getColor() {
-        return switch (id) {
-            case 1 -> Color.rgb(255, 0, 0);
-            case 2 -> Color.rgb(0, 255, 0);
-            case 3 -> Color.rgb(0, 0, 255);
-            default -> Color.rgb(255, 241, 0);
-        };
-    }
-
     public boolean isInvulnerable() {
         return invulnerableTimer > 0.0;
     }
 
+    // One-tick event flags (lostHeart, ateFruit, ...) are deliberately not carried over
+    private Player(Player other) {
+        super(other);
+        this.id = other.id;
+        this.points = other.points;
+        this.lives = other.lives;
+        this.intendedDirection = other.intendedDirection;
+        this.alive = other.alive;
+        this.powerUpTimer = other.powerUpTimer;
+        this.invulnerableTimer = other.invulnerableTimer;
+        this.ghostsEatenThisEnergizer = other.ghostsEatenThisEnergizer;
+    }
+
     public Player copy() {
-        Player copy = new Player(this.id);
-        copy.position = this.position != null ? new Position(this.position.x, this.position.y) : null;
-        copy.direction = this.direction;
-        copy.points = this.points;
-        copy.lives = this.lives;
-        copy.intendedDirection = this.intendedDirection;
-        copy.respawnTimer = this.respawnTimer;
-        copy.alive = this.alive;
-        copy.spawnPosition = this.spawnPosition != null ? new Position(this.spawnPosition.x, this.spawnPosition.y) : null;
-        copy.powerUpTimer = this.powerUpTimer;
-        copy.invulnerableTimer = this.invulnerableTimer;
-        copy.ghostsEatenThisEnergizer = this.ghostsEatenThisEnergizer;
-        return copy;
+        return new Player(this);
     }
 }
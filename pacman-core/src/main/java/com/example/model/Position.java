@@ -0,0 +1,40 @@
+package com.example.model;
+
+import static com.example.model.Constants.TILE_SIZE;
+
+public class Position {
+    public double x;
+    public double y;
+
+    public Position() { }
+
+    public Position(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    //Tile the position is in, rounded to the nearest tile and clamped at 0
+    public int gridX() {
+        return toGrid(x);
+    }
+
+    public int gridY() {
+        return toGrid(y);
+    }
+
+    public static int toGrid(double coordinate) {
+        return Math.max(0, (int) ((coordinate + TILE_SIZE / 2.0) / TILE_SIZE));
+    }
+
+    public static Position fromGridPosition(int gridX, int gridY) {
+        return new Position(gridX * TILE_SIZE, gridY * TILE_SIZE);
+    }
+
+    public int screenX() {
+        return (int) x;
+    }
+
+    public int screenY() {
+        return (int) y;
+    }
+}
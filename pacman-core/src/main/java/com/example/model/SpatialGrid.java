@@ -0,0 +1,129 @@
+package com.example.model;
+
+import java.util.Arrays;
+
+//Uniform grid over the map with one cell per tile, used to find the entities near another one
+//without checking every pair
+//Entities are kept in intrusive linked lists per cell and only relinked when they change cell,
+//so keeping the grid up to date costs one cell computation per entity
+//Positions outside the map are clamped into the border cells, which only adds candidates
+public class SpatialGrid {
+
+    private static final int NONE = -1;
+
+    private int columns;
+    private int rows;
+    private int size;
+
+    private int[] head = new int[0];
+    private int[] next = new int[0];
+    private int[] prev = new int[0];
+    private int[] cell = new int[0];
+
+    //Result of the last query, sorted so callers see neighbours in index order
+    private int[] found = new int[0];
+
+    //Relinks the entities that moved to another cell, or rebuilds the grid if the map or entity count changed
+    public void update(EntityStore store, int columns, int rows) {
+        if (columns != this.columns || rows != this.rows || store.size() != size) {
+            reset(store.size(), columns, rows);
+        }
+        for (int i = 0; i < size; i++) {
+            move(store, i);
+        }
+    }
+
+    //Call after changing the position of a single entity in the store
+    public void move(EntityStore store, int i) {
+        int c = cellOf(store.getX(i), store.getY(i));
+        if (c == cell[i]) {
+            return;
+        }
+        unlink(i);
+        link(i, c);
+    }
+
+    //Collects the entities with an index in [from, to) in the cells around entity i, excluding i
+    //Anything within one tile of i is guaranteed to be found, read them with found(k)
+    public int query(int i, int from, int to) {
+        int c = cell[i];
+        int cx = c % columns;
+        int cy = c / columns;
+        int count = 0;
+
+        for (int y = Math.max(0, cy - 1); y <= Math.min(rows - 1, cy + 1); y++) {
+            for (int x = Math.max(0, cx - 1); x <= Math.min(columns - 1, cx + 1); x++) {
+                for (int e = head[y * columns + x]; e != NONE; e = next[e]) {
+                    if (e != i && e >= from && e < to) {
+                        found[count++] = e;
+                    }
+                }
+            }
+        }
+
+        //Cells hold a handful of entities, insertion sort keeps this allocation free
+        for (int k = 1; k < count; k++) {
+            int e = found[k];
+            int j = k - 1;
+            while (j >= 0 && found[j] > e) {
+                found[j + 1] = found[j];
+                j--;
+            }
+            found[j + 1] = e;
+        }
+        return count;
+    }
+
+    public int found(int k) {
+        return found[k];
+    }
+
+    private void reset(int size, int columns, int rows) {
+        this.size = size;
+        this.columns = Math.max(1, columns);
+        this.rows = Math.max(1, rows);
+
+        if (head.length < this.columns * this.rows) {
+            head = new int[this.columns * this.rows];
+        }
+        if (next.length < size) {
+            next = new int[size];
+            prev = new int[size];
+            cell = new int[size];
+            found = new int[size];
+        }
+        Arrays.fill(head, NONE);
+        Arrays.fill(cell, 0, size, NONE);
+    }
+
+    private int cellOf(int x, int y) {
+        int cx = Math.clamp(Math.floorDiv(x, FixedPoint.TILE), 0, columns - 1);
+        int cy = Math.clamp(Math.floorDiv(y, FixedPoint.TILE), 0, rows - 1);
+        return cy * columns + cx;
+    }
+
+    private void link(int i, int c) {
+        cell[i] = c;
+        prev[i] = NONE;
+        next[i] = head[c];
+        if (head[c] != NONE) {
+            prev[head[c]] = i;
+        }
+        head[c] = i;
+    }
+
+    private void unlink(int i) {
+        if (cell[i] == NONE) {
+            return;
+        }
+        if (prev[i] != NONE) {
+            next[prev[i]] = next[i];
+        } else {
+            head[cell[i]] = next[i];
+        }
+        if (next[i] != NONE) {
+            prev[next[i]] = prev[i];
+        }
+        cell[i] = NONE;
+    }
+}
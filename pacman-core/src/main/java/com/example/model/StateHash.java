@@ -0,0 +1,55 @@
+package com.example.model;
+
+//64-bit hash of a game state that clients compare to detect desyncs
+//Every client simulates the same ledger, so equal clocks must give equal hashes
+//The tile map is hashed incrementally by TileGrid, only the handful of entities and the tracker are hashed here
+public final class StateHash {
+
+    private StateHash() {
+    }
+
+    public static long of(GameState state) {
+        long h = mix(state.clock());
+        h = combine(h, state.tiles().getHash());
+
+        for (Player p : state.players()) {
+            h = combineEntity(h, p);
+            h = combine(h, p.getPoints());
+            h = combine(h, p.getLives());
+            h = combine(h, p.isAlive() ? 1 : 0);
+            h = combine(h, Double.doubleToLongBits(p.getPowerUpTimer()));
+            h = combine(h, Double.doubleToLongBits(p.getInvulnerableTimer()));
+        }
+        for (Ghost g : state.ghosts()) {
+            h = combineEntity(h, g);
+        }
+
+        EntityTracker tracker = state.entityTracker();
+        h = combine(h, tracker.getPowerOwnerId());
+        h = combine(h, Double.doubleToLongBits(tracker.getFrightenedTimerSec()));
+        h = combine(h, Double.doubleToLongBits(tracker.getGhostChaseTimer()));
+        h = combine(h, tracker.isGhostScatterMode() ? 1 : 0);
+        h = combine(h, state.winner() == null ? -1 : state.winner().getId());
+        return h;
+    }
+
+    //SplitMix64 finalizer, spreads every input bit over the whole result
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    //Order dependent, so swapping two entities changes the hash
+    private static long combine(long h, long value) {
+        return mix(h ^ value) + 0x9E3779B97F4A7C15L;
+    }
+
+    //Positions are hashed bit for bit, floating point drift between clients is exactly what this should catch
+    private static long combineEntity(long h, Entity e) {
+        h = combine(h, Double.doubleToLongBits(e.getPosition().x));
+        h = combine(h, Double.doubleToLongBits(e.getPosition().y));
+        h = combine(h, e.getDirection() == null ? -1 : e.getDirection().ordinal());
+        return combine(h, Double.doubleToLongBits(e.getRespawnTimer()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.model;
+
+//Packs a tile coordinate into a single int so grid positions can be passed around without allocating
+//x is kept in the high 16 bits and y in the low 16 bits, both signed, so targets outside the map still round-trip
+public final class TileCoord {
+
+    private TileCoord() { }
+
+    public static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    public static int x(int packed) {
+        return packed >> 16;
+    }
+
+    public static int y(int packed) {
+        return (short) packed;
+    }
+}
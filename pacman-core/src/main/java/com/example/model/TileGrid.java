@@ -0,0 +1,117 @@
+package com.example.model;
+
+import lombok.Getter;
+
+//Tile map stored as one byte per tile (the TileType ordinal), row by row
+//Copies share the byte array until one of them is written to, so copying a grid every tick is O(1)
+//Keeps a Zobrist hash of its content that is updated on every write, so hashing the map never scans it
+//The navigation graph is shared by all copies until a write adds or removes a wall
+public class TileGrid {
+
+    private static final TileType[] TYPES = TileType.values();
+
+    @Getter
+    private final int width;
+    @Getter
+    private final int height;
+
+    private byte[] cells;
+    private boolean shared;
+
+    //Number of tiles that are still worth points (pac-dots, energizers and fruits)
+    @Getter
+    private int remainingPoints;
+
+    //XOR of zobrist(i, ordinal) over all tiles, tiles with ordinal 0 contribute nothing
+    @Getter
+    private long hash;
+
+    private NavGraph navGraph;
+
+    //Creates a grid where every tile is EMPTY
+    public TileGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Tile grid must be at least 1x1, was " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+    }
+
+    public TileGrid(TileType[][] tiles) {
+        this(tiles[0].length, tiles.length);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                set(x, y, tiles[y][x]);
+            }
+        }
+    }
+
+    private TileGrid(TileGrid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.cells = other.cells;
+        this.remainingPoints = other.remainingPoints;
+        this.hash = other.hash;
+        this.navGraph = other.navGraph;
+        this.shared = true;
+        other.shared = true;
+    }
+
+    public TileGrid copy() {
+        return new TileGrid(this);
+    }
+
+    public TileType get(int x, int y) {
+        return TYPES[cells[y * width + x]];
+    }
+
+    public void set(int x, int y, TileType type) {
+        int i = y * width + x;
+        TileType old = TYPES[cells[i]];
+        if (old == type) {
+            return;
+        }
+        if (shared) {
+            cells = cells.clone();
+            shared = false;
+        }
+
+        if (old.points > 0) {
+            remainingPoints--;
+        }
+        if (type.points > 0) {
+            remainingPoints++;
+        }
+        hash ^= zobrist(i, old.ordinal()) ^ zobrist(i, type.ordinal());
+        if ((old == TileType.WALL) != (type == TileType.WALL)) {
+            navGraph = null;
+        }
+        cells[i] = (byte) type.ordinal();
+    }
+
+    //Built on first use, grids loaded by Maps start with the level's graph already attached
+    public NavGraph getNavGraph() {
+        if (navGraph == null) {
+            navGraph = NavGraph.build(this);
+        }
+        return navGraph;
+    }
+
+    void attachNavGraph(NavGraph navGraph) {
+        this.navGraph = navGraph;
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean allPointsGathered() {
+        return remainingPoints == 0;
+    }
+
+    //Random-looking key per tile and type, computed instead of stored so grids of any size need no table
+    private static long zobrist(int i, int ordinal) {
+        return ordinal == 0 ? 0L : StateHash.mix((long) i * TYPES.length + ordinal);
+    }
+}
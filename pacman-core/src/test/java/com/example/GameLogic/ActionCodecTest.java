@@ -0,0 +1,97 @@
+package com.example.GameLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.model.Action;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Binary Action Codec Tests")
+@Timeout(5)
+public class ActionCodecTest {
+
+    @Test
+    @DisplayName("Clean actions should round trip with their indices counted from the first one")
+    public void testCleanRoundTrip() throws IOException {
+        List<Action> actions = List.of(
+            new Action(0, 10, 3, 7),
+            new Action(3, 12, 1, 8),
+            new Action(1, 9, 4, 9),
+            new Action(2, 100000, 2, 10),
+            new Action(0, -60, 1, 11));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ActionCodec writer = ActionCodec.clean(7);
+        for (Action action : actions) {
+            writer.write(action, out);
+        }
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        ActionCodec reader = ActionCodec.clean(7);
+        for (Action expected : actions) {
+            Action action = reader.read(in);
+            assertEquals(expected.getPlayerId(), action.getPlayerId());
+            assertEquals(expected.clock(), action.clock());
+            assertEquals(expected.getMove(), action.getMove());
+            assertEquals(expected.getIndex(), action.getIndex());
+        }
+        assertThrows(EOFException.class, () -> reader.read(in));
+    }
+
+    @Test
+    @DisplayName("Raw actions should decode without an index")
+    public void testRawRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ActionCodec.raw().write(new Action(1, 42, 2), out);
+
+        Action action = ActionCodec.raw().read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(1, action.getPlayerId());
+        assertEquals(42, action.clock());
+        assertEquals(2, action.getMove());
+        assertEquals(-1, action.getIndex());
+    }
+
+    @Test
+    @DisplayName("Actions a few ticks apart should take 3 bytes each")
+    public void testCompactSize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ActionCodec codec = ActionCodec.clean(0);
+        List<Action> actions = new ArrayList<>();
+        actions.add(new Action(0, 0, 1, 0));
+        for (int i = 1; i < 100; i++) {
+            actions.add(new Action(i % 4, i * 3 - (i % 2) * 5, i % 4 + 1, i));
+        }
+        for (Action action : actions) {
+            codec.write(action, out);
+        }
+        assertEquals(3 * actions.size(), out.size());
+    }
+
+    @Test
+    @DisplayName("Varints and zigzag should round trip across the whole int range")
+    public void testVarintRoundTrip() throws IOException {
+        int[] values = {0, 1, -1, 63, -64, 64, 127, 128, 16383, 16384, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int value : values) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ActionCodec.writeVarint(ActionCodec.zigzag(value), out);
+            int read = ActionCodec.unzigzag(ActionCodec.readVarint(new ByteArrayInputStream(out.toByteArray())));
+            assertEquals(value, read);
+        }
+    }
+
+    @Test
+    @DisplayName("Player ids and moves that do not fit in a byte should be rejected")
+    public void testRejectsWideFields() {
+        ActionCodec codec = ActionCodec.raw();
+        assertThrows(IllegalArgumentException.class, () -> codec.write(new Action(256, 0, 1), new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> codec.write(new Action(0, 0, -1), new ByteArrayOutputStream()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.GameLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.jspace.SequentialSpace;
+import org.jspace.Space;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Lobby Directory Tests")
+@Timeout(3)
+public class LobbyDirectoryTest {
+
+    private static final String SHARD_0 = "tcp://10.0.0.1:50000/?keep";
+    private static final String SHARD_1 = "tcp://10.0.0.2:50000/?keep";
+    private static final String SHARD_2 = "tcp://10.0.0.3:50000/?keep";
+
+    @Test
+    @DisplayName("A lobby should be owned by the shard its id is modulo the number of shards")
+    public void testShardFor() {
+        LobbyDirectory directory = new StaticLobbyDirectory(List.of(SHARD_0, SHARD_1, SHARD_2));
+        assertEquals(SHARD_0, directory.shardFor(0));
+        assertEquals(SHARD_1, directory.shardFor(4));
+        assertEquals(SHARD_2, directory.shardFor(998));
+        assertEquals(1, LobbyDirectory.shardOf(7, 3));
+    }
+
+    @Test
+    @DisplayName("New lobbies should be spread over the shards round robin")
+    public void testNewLobbiesRoundRobin() {
+        LobbyDirectory directory = new StaticLobbyDirectory(List.of(SHARD_0, SHARD_1));
+        assertEquals(List.of(SHARD_0, SHARD_1, SHARD_0, SHARD_1),
+            List.of(directory.shardForNewLobby(), directory.shardForNewLobby(), directory.shardForNewLobby(), directory.shardForNewLobby()));
+    }
+
+    @Test
+    @DisplayName("A directory without shards should be rejected")
+    public void testRejectsNoShards() {
+        assertThrows(IllegalArgumentException.class, () -> new StaticLobbyDirectory(List.of()));
+    }
+
+    @Test
+    @DisplayName("The directory service should list shards in index order, the latest registration of each winning")
+    public void testRegisteredShards() throws InterruptedException {
+        Space space = new SequentialSpace();
+        JSpaceLobbyDirectory.register(space, 1, 2, "tcp://old:50000/?keep");
+        JSpaceLobbyDirectory.register(space, 1, 2, SHARD_1);
+        JSpaceLobbyDirectory.register(space, 0, 2, SHARD_0);
+
+        LobbyDirectory directory = new JSpaceLobbyDirectory(space);
+        assertEquals(List.of(SHARD_0, SHARD_1), directory.shards());
+        assertEquals(SHARD_1, directory.shardFor(5));
+    }
+
+    @Test
+    @DisplayName("Reading the directory should wait for shards that have not registered yet")
+    public void testWaitsForShards() throws Exception {
+        Space space = new SequentialSpace();
+        JSpaceLobbyDirectory.register(space, 0, 2, SHARD_0);
+        LobbyDirectory directory = new JSpaceLobbyDirectory(space);
+
+        CompletableFuture<List<String>> shards = CompletableFuture.supplyAsync(directory::shards);
+        Thread.sleep(50);
+        JSpaceLobbyDirectory.register(space, 1, 2, SHARD_1);
+        assertEquals(List.of(SHARD_0, SHARD_1), shards.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Reading the directory should fail when shards disagree on the number of shards")
+    public void testRejectsMismatchedCounts() throws InterruptedException {
+        Space space = new SequentialSpace();
+        JSpaceLobbyDirectory.register(space, 0, 2, SHARD_0);
+        JSpaceLobbyDirectory.register(space, 1, 3, SHARD_1);
+
+        LobbyDirectory directory = new JSpaceLobbyDirectory(space, 1000);
+        IllegalStateException e = assertThrows(IllegalStateException.class, directory::shards);
+        assertTrue(e.getMessage().contains("disagree"));
+    }
+
+    @Test
+    @DisplayName("Reading the directory should give up when a shard never registers, and try again on the next call")
+    public void testTimesOutOnMissingShard() throws InterruptedException {
+        Space space = new SequentialSpace();
+        JSpaceLobbyDirectory.register(space, 0, 2, SHARD_0);
+        LobbyDirectory directory = new JSpaceLobbyDirectory(space, 100);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, directory::shards);
+        assertTrue(e.getMessage().contains("[1]"));
+
+        JSpaceLobbyDirectory.register(space, 1, 2, SHARD_1);
+        assertEquals(List.of(SHARD_0, SHARD_1), directory.shards());
+    }
+
+    @Test
+    @DisplayName("Reading an empty directory should give up instead of waiting forever")
+    public void testTimesOutOnEmptyDirectory() {
+        LobbyDirectory directory = new JSpaceLobbyDirectory(new SequentialSpace(), 100);
+        assertThrows(IllegalStateException.class, directory::shards);
+    }
+}
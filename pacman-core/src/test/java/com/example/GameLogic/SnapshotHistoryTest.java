@@ -0,0 +1,133 @@
+package com.example.GameLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.model.Action;
+import com.example.model.ActionList;
+import com.example.model.Constants;
+import com.example.model.GameState;
+import com.example.model.Player;
+import com.example.model.StateHash;
+import com.example.model.TileType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Snapshot History Rewind Tests")
+@Timeout(2)
+public class SnapshotHistoryTest {
+
+    private GameController controller;
+    private GameState initialState;
+
+    @BeforeEach
+    public void setUp() {
+        controller = new GameController();
+        Constants.clock = 0;
+        Constants.cleanActions = new ActionList();
+        initialState = controller.initializeGameState(2);
+    }
+
+    @Test
+    @DisplayName("Recorded states should be returned for their own clock only")
+    public void testRecordAndGet() {
+        SnapshotHistory history = new SnapshotHistory(4);
+        int clock = initialState.clock();
+        history.record(initialState);
+
+        assertEquals(StateHash.of(initialState), StateHash.of(history.get(clock)));
+        assertNull(history.get(clock + 4), "Clock sharing the same slot should not return the recorded state");
+        assertEquals(clock, history.getNewestClock());
+    }
+
+    @Test
+    @DisplayName("States older than the history depth should be recycled")
+    public void testRecycling() {
+        SnapshotHistory history = new SnapshotHistory(4);
+        GameState state = simulate(history, 6);
+
+        assertNull(history.get(2), "Clock 2 should have been overwritten by clock 6");
+        assertNotNull(history.get(3));
+        assertEquals(StateHash.of(state), StateHash.of(history.get(6)));
+    }
+
+    @Test
+    @DisplayName("A snapshot should keep the state as it was recorded and hand out independent copies")
+    public void testSnapshotIsCopy() {
+        SnapshotHistory history = new SnapshotHistory(4);
+        GameState state = simulate(history, 3);
+        long recorded = StateHash.of(state);
+
+        Player player = state.players().getFirst();
+        player.getPosition().x += 50;
+        player.addPoints(100);
+        state.tiles().set(1, 1, TileType.EMPTY);
+        assertEquals(recorded, StateHash.of(history.get(3)));
+
+        GameState first = history.get(3);
+        assertNotSame(first, history.get(3));
+        first.players().getFirst().setLives(0);
+        assertEquals(recorded, StateHash.of(history.get(3)));
+    }
+
+    @Test
+    @DisplayName("Recording an older clock should drop the snapshots after it")
+    public void testRewindDropsNewerStates() {
+        SnapshotHistory history = new SnapshotHistory(8);
+        simulate(history, 5);
+
+        history.record(history.get(2));
+
+        assertNotNull(history.get(2));
+        assertNull(history.get(3));
+        assertNull(history.get(5));
+        assertEquals(2, history.getNewestClock());
+    }
+
+    @Test
+    @DisplayName("Depth must be positive")
+    public void testInvalidDepth() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotHistory(0));
+    }
+
+    @Test
+    @DisplayName("Rewinding from the snapshot before a late action should match a full resimulation")
+    public void testRewindMatchesFullReplay() {
+        SnapshotHistory history = new SnapshotHistory();
+
+        // Simulate up to clock 30 without knowing about the action at clock 20
+        simulate(history, 30);
+
+        Constants.cleanActions.addAction(new Action(1, 20, 4, 0)); // 4 = SOUTH
+        assertEquals(20, Constants.cleanActions.getMissedActionClock());
+
+        GameState rewound = controller.updateGameStateFor(history.get(19), 30, history);
+        GameState replayed = controller.updateGameStateFor(initialState, 30);
+
+        assertEquals(30, rewound.clock());
+        assertEquals(StateHash.of(rewound), StateHash.of(history.get(30)), "Replayed ticks should be recorded again");
+        for (int i = 0; i < replayed.players().size(); i++) {
+            Player expected = replayed.players().get(i);
+            Player actual = rewound.players().get(i);
+            assertEquals(expected.getPosition().x, actual.getPosition().x, 0.0001);
+            assertEquals(expected.getPosition().y, actual.getPosition().y, 0.0001);
+            assertEquals(expected.getDirection(), actual.getDirection());
+            assertEquals(expected.getPoints(), actual.getPoints());
+        }
+    }
+
+    private GameState simulate(SnapshotHistory history, int tarclock) {
+        GameState state = initialState;
+        history.record(state);
+        while (state.clock() < tarclock) {
+            state = controller.updateGameState(state, Constants.cleanActions.getActions(state.clock() + 1));
+            history.record(state);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Pathfinding Distance Field Tests")
+@Timeout(1)
+public class DistanceFieldsTest {
+
+    //. is open, # is a wall
+    private static TileGrid grid(String... rows) {
+        TileGrid tiles = new TileGrid(rows[0].length(), rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < rows[y].length(); x++) {
+                tiles.set(x, y, rows[y].charAt(x) == '#' ? TileType.WALL : TileType.EMPTY);
+            }
+        }
+        return tiles;
+    }
+
+    @Test
+    @DisplayName("Distances should follow corridors around walls")
+    public void testPathAroundWalls() {
+        DistanceFields distances = grid(
+            "#####",
+            "#...#",
+            "###.#",
+            "#...#",
+            "#####"
+        ).getNavGraph().getDistanceFields();
+        int target = TileCoord.pack(1, 3);
+
+        assertEquals(0, distances.distance(target, 1, 3));
+        assertEquals(2, distances.distance(target, 3, 3));
+        assertEquals(6, distances.distance(target, 1, 1));
+        assertEquals(DistanceFields.UNREACHABLE, distances.distance(target, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Paths through the map edge should wrap around")
+    public void testWrapAround() {
+        DistanceFields distances = grid(
+            "#####",
+            ".....",
+            "#####"
+        ).getNavGraph().getDistanceFields();
+
+        assertEquals(1, distances.distance(TileCoord.pack(0, 1), 4, 1));
+        assertEquals(1, distances.distance(TileCoord.pack(0, 1), -1, 1));
+    }
+
+    @Test
+    @DisplayName("Ghost spawn tiles should be precomputed when the level loads")
+    public void testFixedTargetsPrecomputed() {
+        DistanceFields distances = Maps.getCurrentLevelTiles().getNavGraph().getDistanceFields();
+
+        for (GhostType type : GhostType.values()) {
+            assertTrue(distances.isPrecomputed(Maps.getGhostSpawnTile(type)), type.name());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.model;
+
+import static com.example.model.Constants.TILE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Struct-of-Arrays Entity Store Tests")
+@Timeout(1)
+public class EntityStoreTest {
+
+    private List<Player> players;
+    private List<Ghost> ghosts;
+
+    @BeforeEach
+    public void setUp() {
+        players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        ghosts = new ArrayList<>();
+        for (GhostType type : GhostType.values()) {
+            ghosts.add(new Ghost(type));
+        }
+    }
+
+    @Test
+    @DisplayName("Loading should place players before ghosts and keep their state")
+    public void testLoadLayout() {
+        Player p = players.get(1);
+        p.setPosition(new Position(3.25 * TILE_SIZE, 5 * TILE_SIZE));
+        p.setIntendedDirection(Direction.NORTH);
+        p.setPoints(120);
+
+        EntityStore store = new EntityStore(2);
+        store.load(players, ghosts);
+
+        assertEquals(2, store.getPlayerCount());
+        assertEquals(GhostType.values().length, store.getGhostCount());
+        assertEquals(FixedPoint.fromPixels(3.25 * TILE_SIZE), store.getX(1));
+        assertEquals(3, store.getGridX(1));
+        assertEquals(Direction.NORTH, store.getIntendedDirection(1));
+        assertEquals(120, store.getPoints(1));
+        assertEquals(GhostType.RED, store.getGhostType(store.getPlayerCount()));
+        assertEquals(Direction.WEST, store.getDirection(store.getPlayerCount()));
+    }
+
+    @Test
+    @DisplayName("Storing should write changes back into the original objects")
+    public void testStoreRoundTrip() {
+        EntityStore store = new EntityStore();
+        store.load(players, ghosts);
+
+        store.setX(0, FixedPoint.fromPixels(42.5));
+        store.setDirection(0, Direction.SOUTH);
+        store.loseLife(0);
+        store.setAlive(0, false);
+        store.setIntendedDirection(0, null);
+        store.setRespawnTimer(store.getPlayerCount() + 2, 3.0);
+        store.store(players, ghosts);
+
+        Player p = players.getFirst();
+        assertEquals(42.5, p.getPosition().x, 0.0);
+        assertEquals(Direction.SOUTH, p.getDirection());
+        assertEquals(Constants.PLAYER_LIVES - 1, p.getLives());
+        assertTrue(p.isLostHeart());
+        assertFalse(p.isAlive());
+        assertNull(p.getIntendedDirection());
+        assertEquals(3.0, ghosts.get(2).getRespawnTimer(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Eating ghosts through the store should score like Player.eatGhost")
+    public void testEatGhostMatchesPlayer() {
+        EntityStore store = new EntityStore();
+        store.load(players, ghosts);
+
+        Player reference = new Player(0);
+        for (int i = 0; i < 5; i++) {
+            store.eatGhost(0);
+            reference.eatGhost();
+        }
+        store.store(players, ghosts);
+
+        assertEquals(reference.getPoints(), players.getFirst().getPoints());
+        assertEquals(reference.getGhostsEatenThisEnergizer(), players.getFirst().getGhostsEatenThisEnergizer());
+        assertTrue(players.getFirst().isAteGhost());
+    }
+
+    @Test
+    @DisplayName("A copied store should hold the same entities and stay independent of the original")
+    public void testCopyFrom() {
+        players.get(1).setPoints(300);
+        players.get(1).setAteFruit(true);
+        EntityStore store = new EntityStore();
+        store.load(players, ghosts);
+
+        EntityStore copy = new EntityStore(1);
+        copy.copyFrom(store);
+        store.setX(0, 0);
+        store.addPoints(1, 50);
+
+        assertEquals(store.getPlayerCount(), copy.getPlayerCount());
+        assertEquals(store.getGhostCount(), copy.getGhostCount());
+        assertEquals(FixedPoint.fromPixels(players.getFirst().getPosition().x), copy.getX(0));
+        assertEquals(300, copy.getPoints(1));
+
+        List<Player> restored = copy.toPlayers();
+        List<Ghost> restoredGhosts = copy.toGhosts();
+        assertEquals(300, restored.get(1).getPoints());
+        assertTrue(restored.get(1).isAteFruit());
+        assertEquals(GhostType.values().length, restoredGhosts.size());
+        assertEquals(ghosts.get(3).getType(), restoredGhosts.get(3).getType());
+    }
+}
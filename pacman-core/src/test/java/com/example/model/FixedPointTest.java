@@ -0,0 +1,37 @@
+package com.example.model;
+
+import static com.example.model.Constants.TILE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Fixed-Point Sub-Pixel Unit Tests")
+@Timeout(1)
+public class FixedPointTest {
+
+    @Test
+    @DisplayName("Converting units to pixels and back should be exact")
+    public void testRoundTripIsExact() {
+        for (int units = -3 * FixedPoint.TILE; units <= 3 * FixedPoint.TILE; units += 7) {
+            assertEquals(units, FixedPoint.fromPixels(FixedPoint.toPixels(units)));
+        }
+    }
+
+    @Test
+    @DisplayName("Grid rounding should match Position.toGrid")
+    public void testGridMatchesPosition() {
+        for (int units = -FixedPoint.TILE; units <= 40 * FixedPoint.TILE; units += 13) {
+            assertEquals(Position.toGrid(FixedPoint.toPixels(units)), FixedPoint.toGrid(units), "units " + units);
+        }
+        assertEquals(5 * TILE_SIZE, FixedPoint.toPixels(FixedPoint.fromGrid(5)), 0.0);
+    }
+
+    @Test
+    @DisplayName("Per-tick speeds should round to the nearest unit")
+    public void testPerTick() {
+        assertEquals(FixedPoint.fromPixels(Constants.PLAYER_SPEED / Constants.TARGET_FPS), FixedPoint.perTick(Constants.PLAYER_SPEED));
+        assertEquals(Math.round(Constants.GHOST_FRIGHTENED_SPEED / Constants.TARGET_FPS * FixedPoint.ONE), FixedPoint.perTick(Constants.GHOST_FRIGHTENED_SPEED));
+    }
+}
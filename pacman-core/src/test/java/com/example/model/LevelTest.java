@@ -0,0 +1,89 @@
+package com.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Level File Loading Tests")
+@Timeout(2)
+public class LevelTest {
+
+    private static final String HEADER = """
+        // a small test maze
+        size 5 3
+        ghost RED 1 1
+        ghost PINK 1 1
+        ghost CYAN 1 1
+        ghost ORANGE 1 1
+        ghost PURPLE 1 1
+        player 3 1
+        fruit 100 CHERRY
+        fruit 900 KEY
+        """;
+
+    private static Level read(String text) throws IOException {
+        return Level.read("test.txt", new StringReader(text));
+    }
+
+    @Test
+    @DisplayName("A level file should give its tiles, spawns and fruits")
+    public void testReadLevel() throws IOException {
+        Level level = read(HEADER + "tiles\n#####\n#.o \n#####\n");
+        TileGrid tiles = level.newTiles();
+
+        assertEquals(5, level.getWidth());
+        assertEquals(3, level.getHeight());
+        assertEquals(TileType.PAC_DOT, tiles.get(1, 1));
+        assertEquals(TileType.ENERGIZER, tiles.get(2, 1));
+        //The row was shorter than the map, the rest is empty
+        assertEquals(TileType.EMPTY, tiles.get(4, 1));
+        assertEquals(TileCoord.pack(3, 1), level.getPlayerSpawnTile(0));
+        assertEquals(TileType.KEY, level.getFruitToSpawn(1000));
+        assertEquals(TileType.CHERRY, level.getFruitToSpawn(500));
+        assertNull(level.getFruitToSpawn(50));
+    }
+
+    @Test
+    @DisplayName("Errors should name the file and line")
+    public void testErrorsNameLine() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> read(HEADER + "tiles\n#####\n#.?.#\n#####\n"));
+        assertTrue(e.getMessage().startsWith("test.txt:13:"), e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> read(HEADER + "tiles\n#####\n"));
+        assertThrows(IllegalArgumentException.class, () -> read("size 2 2\ntiles\n##\n##\n"));
+    }
+
+    @Test
+    @DisplayName("The bundled level should keep the arcade maze")
+    public void testBundledLevel() {
+        Level level = Maps.getCurrentLevel();
+
+        assertEquals(28, level.getWidth());
+        assertEquals(31, level.getHeight());
+        assertEquals(TileCoord.pack(12, 14), level.getGhostSpawnTile(GhostType.RED));
+    }
+
+    @Test
+    @DisplayName("Large mazes should load fast and start games without copying the tiles")
+    public void testLargeMaze() throws IOException {
+        StringBuilder text = new StringBuilder(HEADER.replace("size 5 3", "size 256 256")).append("tiles\n");
+        for (int y = 0; y < 256; y++) {
+            text.append(y % 2 == 0 ? ".".repeat(256) : "#.".repeat(128)).append('\n');
+        }
+        Level level = read(text.toString());
+
+        TileGrid first = level.newTiles();
+        TileGrid second = level.newTiles();
+        assertEquals(first.getHash(), second.getHash());
+        assertEquals(first.getNavGraph(), second.getNavGraph());
+        assertEquals(256 * 128 + 128 * 128, first.getRemainingPoints());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Ghost Navigation Graph Tests")
+@Timeout(1)
+public class NavGraphTest {
+
+    @Test
+    @DisplayName("Exits should match the walkable neighbours of every tile")
+    public void testExitsMatchTiles() {
+        TileGrid tiles = Maps.getCurrentLevelTiles();
+        NavGraph nav = tiles.getNavGraph();
+
+        for (int y = -1; y <= tiles.getHeight(); y++) {
+            for (int x = -1; x <= tiles.getWidth(); x++) {
+                int walkable = 0;
+                for (Direction d : Direction.values()) {
+                    int nx = x + NavGraph.dx(d);
+                    int ny = y + NavGraph.dy(d);
+                    boolean open = !tiles.inBounds(nx, ny) || tiles.get(nx, ny) != TileType.WALL;
+                    assertEquals(open, nav.canExit(x, y, d), "tile " + x + "," + y + " " + d);
+                    if (open) {
+                        walkable++;
+                    }
+                }
+                assertEquals(walkable >= 3, nav.isJunction(x, y), "tile " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Edge tiles should be able to leave the map to wrap around")
+    public void testWrapAroundEdges() {
+        TileGrid tiles = new TileGrid(3, 3);
+        NavGraph nav = tiles.getNavGraph();
+
+        assertTrue(nav.canExit(0, 1, Direction.WEST));
+        assertTrue(nav.canExit(2, 1, Direction.EAST));
+        assertEquals(NavGraph.ALL_EXITS, nav.exits(-5, 40));
+    }
+
+    @Test
+    @DisplayName("Grids of the same level should share one graph until a wall changes")
+    public void testSharedUntilWallChanges() {
+        TileGrid a = Maps.getCurrentLevelTiles();
+        TileGrid b = Maps.getCurrentLevelTiles();
+        assertSame(a.getNavGraph(), b.getNavGraph());
+
+        TileGrid copy = a.copy();
+        copy.set(1, 1, TileType.EMPTY);
+        assertSame(a.getNavGraph(), copy.getNavGraph());
+
+        copy.set(1, 1, TileType.WALL);
+        assertNotSame(a.getNavGraph(), copy.getNavGraph());
+        assertFalse(copy.getNavGraph().canExit(1, 2, Direction.NORTH));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Collision Spatial Grid Tests")
+@Timeout(1)
+public class SpatialGridTest {
+
+    private static final int COLUMNS = 20;
+    private static final int ROWS = 15;
+
+    private EntityStore store;
+    private Random random;
+
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new Player(i));
+        }
+        List<Ghost> ghosts = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ghosts.add(new Ghost(GhostType.values()[i % GhostType.values().length]));
+        }
+        store = new EntityStore();
+        store.load(players, ghosts);
+        random = new Random(7);
+    }
+
+    //Includes positions just outside the map, where wrapping entities briefly are
+    private void scatter() {
+        for (int i = 0; i < store.size(); i++) {
+            store.setX(i, random.nextInt(-FixedPoint.TILE, (COLUMNS + 1) * FixedPoint.TILE));
+            store.setY(i, random.nextInt(-FixedPoint.TILE, (ROWS + 1) * FixedPoint.TILE));
+        }
+    }
+
+    private void assertFindsEveryEntityWithinATile(SpatialGrid grid) {
+        long reach = (long) FixedPoint.TILE * FixedPoint.TILE;
+        for (int i = 0; i < store.size(); i++) {
+            int count = grid.query(i, 0, store.size());
+            List<Integer> found = new ArrayList<>();
+            for (int k = 0; k < count; k++) {
+                found.add(grid.found(k));
+                if (k > 0) {
+                    assertTrue(grid.found(k - 1) < grid.found(k), "neighbours should be in index order");
+                }
+            }
+            for (int j = 0; j < store.size(); j++) {
+                if (j != i && store.distanceSquared(i, j) <= reach) {
+                    assertTrue(found.contains(j), "entity " + j + " near " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Queries should find every entity within one tile")
+    public void testQueryMatchesBruteForce() {
+        SpatialGrid grid = new SpatialGrid();
+        for (int round = 0; round < 5; round++) {
+            scatter();
+            grid.update(store, COLUMNS, ROWS);
+            assertFindsEveryEntityWithinATile(grid);
+        }
+    }
+
+    @Test
+    @DisplayName("Moving a single entity should keep the grid exact")
+    public void testSingleMove() {
+        SpatialGrid grid = new SpatialGrid();
+        scatter();
+        grid.update(store, COLUMNS, ROWS);
+
+        store.setX(0, 3 * FixedPoint.TILE);
+        store.setY(0, 3 * FixedPoint.TILE);
+        store.setX(1, 3 * FixedPoint.TILE + FixedPoint.TILE / 2);
+        store.setY(1, 4 * FixedPoint.TILE);
+        grid.move(store, 0);
+        grid.move(store, 1);
+
+        assertFindsEveryEntityWithinATile(grid);
+    }
+
+    @Test
+    @DisplayName("Queries should only return indices in the requested range")
+    public void testQueryRange() {
+        SpatialGrid grid = new SpatialGrid();
+        for (int i = 0; i < store.size(); i++) {
+            store.setX(i, 0);
+            store.setY(i, 0);
+        }
+        grid.update(store, COLUMNS, ROWS);
+
+        int count = grid.query(0, store.getPlayerCount(), store.size());
+        assertEquals(store.getGhostCount(), count);
+        assertEquals(store.getPlayerCount(), grid.found(0));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.example.GameLogic.GameController;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Desync State Hash Tests")
+@Timeout(2)
+public class StateHashTest {
+
+    private GameController controller;
+
+    @BeforeEach
+    public void setUp() {
+        controller = new GameController();
+    }
+
+    @Test
+    @DisplayName("Incremental tile hash should equal the hash of a grid built from scratch")
+    public void testTileHashIsIncremental() {
+        TileGrid played = Maps.getCurrentLevelTiles();
+        played.set(1, 1, TileType.EMPTY);
+        played.set(2, 1, TileType.CHERRY);
+        played.set(2, 1, TileType.EMPTY);
+
+        TileGrid rebuilt = new TileGrid(played.getWidth(), played.getHeight());
+        for (int y = 0; y < played.getHeight(); y++) {
+            for (int x = 0; x < played.getWidth(); x++) {
+                rebuilt.set(x, y, played.get(x, y));
+            }
+        }
+
+        assertEquals(rebuilt.getHash(), played.getHash());
+        assertNotEquals(Maps.getCurrentLevelTiles().getHash(), played.getHash());
+    }
+
+    @Test
+    @DisplayName("Copied grids should keep the hash and diverge on write")
+    public void testTileHashOnCopy() {
+        TileGrid original = Maps.getCurrentLevelTiles();
+        TileGrid copy = original.copy();
+        assertEquals(original.getHash(), copy.getHash());
+
+        copy.set(1, 1, TileType.EMPTY);
+        assertNotEquals(original.getHash(), copy.getHash());
+    }
+
+    @Test
+    @DisplayName("Two clients replaying the same actions should produce the same hash")
+    public void testSameActionsSameHash() {
+        List<Action> actions = List.of(new Action(0, 0, 4, 0), new Action(1, 0, 1, 1));
+        GameState a = controller.initializeGameState(2);
+        GameState b = controller.initializeGameState(2);
+        for (int i = 0; i < 40; i++) {
+            a = controller.updateGameState(a, i == 0 ? actions : List.of());
+            b = controller.updateGameState(b, i == 0 ? actions : List.of());
+        }
+
+        assertEquals(StateHash.of(a), StateHash.of(b));
+    }
+
+    @Test
+    @DisplayName("Any drift in an entity should change the hash")
+    public void testDriftChangesHash() {
+        GameState state = controller.initializeGameState(2);
+        GameState drifted = controller.deepCopyGameState(state);
+        assertEquals(StateHash.of(state), StateHash.of(drifted));
+
+        drifted.players().get(1).getPosition().x += 1e-9;
+        assertNotEquals(StateHash.of(state), StateHash.of(drifted));
+    }
+
+    @Test
+    @DisplayName("Different clocks should give different hashes for the same entities")
+    public void testClockIsHashed() {
+        GameState state = controller.initializeGameState(1);
+        GameState later = new GameState(state.clock() + 1, state.players(), state.ghosts(), state.tiles(), state.winner(), state.entityTracker());
+
+        assertNotEquals(StateHash.of(state), StateHash.of(later));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Byte-Packed Tile Grid Tests")
+@Timeout(1)
+public class TileGridTest {
+
+    @Test
+    @DisplayName("Grid built from a TileType array should keep every tile and its size")
+    public void testFromArray() {
+        TileType[][] tiles = {
+            {TileType.WALL, TileType.PAC_DOT, TileType.WALL},
+            {TileType.EMPTY, TileType.ENERGIZER, TileType.CHERRY}
+        };
+        TileGrid grid = new TileGrid(tiles);
+
+        assertEquals(3, grid.getWidth());
+        assertEquals(2, grid.getHeight());
+        for (int y = 0; y < tiles.length; y++) {
+            for (int x = 0; x < tiles[0].length; x++) {
+                assertEquals(tiles[y][x], grid.get(x, y));
+            }
+        }
+        assertEquals(3, grid.getRemainingPoints());
+    }
+
+    @Test
+    @DisplayName("Remaining point counter should follow every write")
+    public void testRemainingPointsCounter() {
+        TileGrid grid = new TileGrid(4, 4);
+        assertTrue(grid.allPointsGathered());
+
+        grid.set(1, 1, TileType.PAC_DOT);
+        grid.set(2, 1, TileType.ENERGIZER);
+        grid.set(2, 1, TileType.MELON);
+        grid.set(3, 3, TileType.WALL);
+        assertEquals(2, grid.getRemainingPoints());
+
+        grid.set(1, 1, TileType.EMPTY);
+        grid.set(2, 1, TileType.EMPTY);
+        assertTrue(grid.allPointsGathered());
+    }
+
+    @Test
+    @DisplayName("Writes to a copy should not be visible in the original and vice versa")
+    public void testCopyOnWrite() {
+        TileGrid original = Maps.getCurrentLevelTiles();
+        int points = original.getRemainingPoints();
+        assertEquals(TileType.PAC_DOT, original.get(1, 1));
+        assertEquals(TileType.PAC_DOT, original.get(2, 1));
+
+        TileGrid copy = original.copy();
+        copy.set(1, 1, TileType.EMPTY);
+        original.set(2, 1, TileType.EMPTY);
+
+        assertEquals(TileType.PAC_DOT, original.get(1, 1));
+        assertEquals(TileType.EMPTY, copy.get(1, 1));
+        assertEquals(TileType.PAC_DOT, copy.get(2, 1));
+        assertEquals(points - 1, copy.getRemainingPoints());
+        assertEquals(points - 1, original.getRemainingPoints());
+    }
+
+    @Test
+    @DisplayName("Grid must have a positive size")
+    public void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TileGrid(0, 3));
+    }
+}
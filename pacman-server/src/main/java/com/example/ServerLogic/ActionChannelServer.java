@@ -0,0 +1,127 @@
+package com.example.ServerLogic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspace.SpaceRepository;
+
+import com.example.GameLogic.ActionCodec;
+import com.example.model.Action;
+
+//Binary transport for actions, next to the jSpace gate
+//A client opens one TCP connection per game and starts it with the handshake
+//  version byte (ActionCodec.CHANNEL_VERSION), lobby id varint, index of the first clean action it wants varint
+//after which it writes its raw actions and reads the lobby's clean actions, both in ActionCodec's encoding
+//When the lobby stops, the server closes the connection after its last clean action
+//Raw actions go into the same inbox as the ones put through jSpace, so the lobby does not know which transport was used
+public class ActionChannelServer implements Runnable {
+
+    private final SpaceRepository rep;
+    private final ServerSocket serverSocket;
+
+    public ActionChannelServer(SpaceRepository rep, int port) throws IOException {
+        this.rep = rep;
+        this.serverSocket = new ServerSocket(port);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void run() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().name("action-channel-" + socket.getRemoteSocketAddress()).start(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void serve(Socket socket) {
+        Thread writer = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+
+            int version = in.read();
+            if (version != ActionCodec.CHANNEL_VERSION) {
+                System.out.println("Action channel from " + socket.getRemoteSocketAddress() + " has unknown version " + version);
+                return;
+            }
+            int lobbyID = ActionCodec.readVarint(in);
+            int from = ActionCodec.readVarint(in);
+            if (!(rep.get(lobbyID + "rawAction") instanceof RawActionInbox rawActions)
+                || !(rep.get(lobbyID + "cleanAction") instanceof ActionStreamSpace cleanActions)) {
+                System.out.println("Action channel from " + socket.getRemoteSocketAddress() + " asked for unknown lobby " + lobbyID);
+                return;
+            }
+
+            writer = Thread.ofVirtual().name("action-channel-writer-" + lobbyID).start(() -> writeCleanActions(cleanActions, from, socket, out));
+
+            ActionCodec codec = ActionCodec.raw();
+            while (true) {
+                Action action = codec.read(in);
+                rawActions.put(action.getPlayerId(), action.clock(), action.getMove());
+            }
+        } catch (EOFException e) {
+            //Client closed the connection
+        } catch (IOException e) {
+            if (!socket.isClosed()) {
+                e.printStackTrace();
+            }
+        } finally {
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+    }
+
+    //Streams every clean action from index from onward, flushing once per batch
+    //Closes the connection once the lobby has stopped, which also ends the reading side
+    private void writeCleanActions(ActionStreamSpace cleanActions, int from, Socket socket, OutputStream out) {
+        ActionCodec codec = ActionCodec.clean(from);
+        List<Action> batch = new ArrayList<>();
+        int next = from;
+        try {
+            while (true) {
+                batch.clear();
+                int count = cleanActions.awaitFrom(next, batch);
+                if (count < 0) {
+                    socket.close();
+                    return;
+                }
+                next += count;
+                for (Action action : batch) {
+                    codec.write(action, out);
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            return;
+        } catch (IOException e) {
+            //Connection closed, the reading side cleans up
+        }
+    }
+}
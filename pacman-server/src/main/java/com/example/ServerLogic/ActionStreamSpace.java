@@ -0,0 +1,338 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.Space;
+import org.jspace.TemplateField;
+
+import com.example.GameLogic.ActionUtil;
+import com.example.model.Action;
+
+//Clean action space of a lobby, an append-only array of (playerId, clock, move, index) tuples indexed by action index
+//A query with an actual index is an array lookup, and a query for an index that does not exist yet parks
+//on that index alone, so serving an action costs the same at the end of a game as at the start
+//A query for ("FROM", n, String) returns ("FROM", n, batch) with action n and every action after it,
+//see ActionUtil.encodeBatch
+//Taking a clean action with get removes it from what templates match, but not from the stream readers follow
+//by index, which every client needs whole; a batch is built for a query, so there is no batch tuple to take
+//Closing the space wakes every waiter, streams end and blocking template reads throw InterruptedException
+public class ActionStreamSpace implements Space {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    //Waiters for an index that has not been put yet, signalled when it is
+    private final Map<Integer, Condition> waitingForIndex = new HashMap<>();
+    //Waiters with templates that do not name an index, signalled on every put
+    private final Condition anyPut = lock.newCondition();
+
+    private Object[][] actions = new Object[256][];
+    //Next index, taken actions included
+    private int size;
+    //Indices of actions taken with get
+    private final BitSet taken = new BitSet();
+    private boolean closed;
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size - taken.cardinality();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //The handler hands out indices one after another, so a clean action always goes at the end
+    @Override
+    public boolean put(Object... fields) {
+        if (fields.length != 4 || !(fields[3] instanceof Integer)) {
+            throw new IllegalArgumentException("Clean actions are (playerId, clock, move, index) tuples");
+        }
+        lock.lock();
+        try {
+            append(fields);
+            anyPut.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Publishes a batch of clean actions at once, waiters are woken once for the whole batch
+    public void putAll(List<Action> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (Action action : batch) {
+                append(new Object[] {action.getPlayerId(), action.clock(), action.getMove(), action.getIndex()});
+            }
+            anyPut.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Must hold the lock
+    private void append(Object[] fields) {
+        int index = (Integer) fields[3];
+        if (index != size) {
+            throw new IllegalArgumentException("Clean action " + index + " put out of order, expected " + size);
+        }
+        if (size == actions.length) {
+            actions = Arrays.copyOf(actions, size * 2);
+        }
+        actions[size++] = fields;
+
+        Condition waiting = waitingForIndex.remove(index);
+        if (waiting != null) {
+            waiting.signalAll();
+        }
+    }
+
+    //Blocks until action from exists, then adds it and every action after it to the list, returns how many were added
+    //Returns -1 once the space is closed and every action has been handed out
+    //Used by the binary action channel and the NIO lobby server, which stream actions without going through templates
+    public int awaitFrom(int from, List<Action> out) throws InterruptedException {
+        lock.lock();
+        try {
+            while (from >= size && !closed) {
+                waitingForIndex.computeIfAbsent(from, _ -> lock.newCondition()).await();
+            }
+            return from < size ? collect(from, out) : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Called when the lobby stops, wakes everything waiting for actions that will now never come
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            waitingForIndex.values().forEach(Condition::signalAll);
+            waitingForIndex.clear();
+            anyPut.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] query(TemplateField... fields) throws InterruptedException {
+        lock.lock();
+        try {
+            int from = batchStart(fields);
+            if (from >= 0) {
+                awaitIndex(from);
+                return batch(from);
+            }
+
+            int index = requestedIndex(fields);
+            if (index >= 0) {
+                awaitIndex(index);
+                //A tuple with this index that does not match never will, like in any other space
+                while (!visible(index, fields)) {
+                    awaitPut();
+                }
+                return actions[index];
+            }
+
+            return actions[awaitMatch(fields)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] queryp(TemplateField... fields) {
+        lock.lock();
+        try {
+            int from = batchStart(fields);
+            if (from >= 0) {
+                return from < size ? batch(from) : null;
+            }
+
+            int index = requestedIndex(fields);
+            if (index >= 0) {
+                return index < size && visible(index, fields) ? actions[index] : null;
+            }
+
+            int i = firstMatch(fields, 0);
+            return i >= 0 ? actions[i] : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //In index order
+    @Override
+    public List<Object[]> queryAll(TemplateField... fields) {
+        lock.lock();
+        try {
+            List<Object[]> found = new ArrayList<>();
+            for (int i = firstMatch(fields, 0); i >= 0; i = firstMatch(fields, i + 1)) {
+                found.add(actions[i]);
+            }
+            return found;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] get(TemplateField... fields) throws InterruptedException {
+        lock.lock();
+        try {
+            int index = requestedIndex(fields);
+            if (index >= 0) {
+                awaitIndex(index);
+                while (!visible(index, fields)) {
+                    awaitPut();
+                }
+                return take(index);
+            }
+            return take(awaitMatch(fields));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] getp(TemplateField... fields) {
+        lock.lock();
+        try {
+            int index = requestedIndex(fields);
+            if (index >= 0) {
+                return index < size && visible(index, fields) ? take(index) : null;
+            }
+            int i = firstMatch(fields, 0);
+            return i >= 0 ? take(i) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //In index order
+    @Override
+    public List<Object[]> getAll(TemplateField... fields) {
+        lock.lock();
+        try {
+            List<Object[]> found = new ArrayList<>();
+            for (int i = firstMatch(fields, 0); i >= 0; i = firstMatch(fields, i + 1)) {
+                found.add(take(i));
+            }
+            return found;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //Must hold the lock
+    private Object[] take(int index) {
+        taken.set(index);
+        return actions[index];
+    }
+
+    //Must hold the lock, the first index from start on that matches and has not been taken, negative if none
+    private int firstMatch(TemplateField[] fields, int start) {
+        for (int i = start; i < size; i++) {
+            if (visible(i, fields)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //Must hold the lock, blocks until an action matches
+    //Actions only ever stop matching once checked, so each put only needs the new actions checked
+    private int awaitMatch(TemplateField[] fields) throws InterruptedException {
+        int checked = 0;
+        while (true) {
+            int i = firstMatch(fields, checked);
+            if (i >= 0) {
+                return i;
+            }
+            checked = size;
+            awaitPut();
+        }
+    }
+
+    //Must hold the lock
+    private void awaitPut() throws InterruptedException {
+        if (closed) {
+            throw new InterruptedException("Clean action stream closed");
+        }
+        anyPut.await();
+    }
+
+    //Must hold the lock
+    private boolean visible(int index, TemplateField[] fields) {
+        return !taken.get(index) && matches(actions[index], fields);
+    }
+
+    //Must hold the lock
+    private void awaitIndex(int index) throws InterruptedException {
+        while (index >= size) {
+            if (closed) {
+                throw new InterruptedException("Clean action stream closed");
+            }
+            waitingForIndex.computeIfAbsent(index, _ -> lock.newCondition()).await();
+        }
+    }
+
+    //Index asked for by a ("FROM", n, String) template, negative for any other template
+    private static int batchStart(TemplateField[] fields) {
+        if (fields.length != 3
+            || !(fields[0] instanceof ActualField tag) || !ActionUtil.BATCH_FROM.equals(tag.getValue())
+            || !(fields[1] instanceof ActualField index) || !(index.getValue() instanceof Integer from)
+            || !(fields[2] instanceof FormalField batch) || batch.getFormalFieldType() != String.class) {
+            return -1;
+        }
+        return from;
+    }
+
+    //Index named by the last field of a clean action template, negative if it is formal
+    private static int requestedIndex(TemplateField[] fields) {
+        if (fields.length != 4 || !(fields[3] instanceof ActualField index) || !(index.getValue() instanceof Integer i)) {
+            return -1;
+        }
+        return i;
+    }
+
+    private static boolean matches(Object[] tuple, TemplateField[] fields) {
+        if (tuple.length != fields.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].match(tuple[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Must hold the lock
+    private Object[] batch(int from) {
+        List<Action> batch = new ArrayList<>(size - from);
+        collect(from, batch);
+        return new Object[] {ActionUtil.BATCH_FROM, from, ActionUtil.encodeBatch(batch)};
+    }
+
+    //Must hold the lock
+    private int collect(int from, List<Action> out) {
+        for (int i = from; i < size; i++) {
+            out.add(ActionUtil.convertObjToAction(actions[i]));
+        }
+        return size - from;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.ServerLogic;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.jspace.FormalField;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+
+import com.example.model.Constants;
+
+import lombok.Getter;
+
+//Collects the state hashes the clients of a lobby publish and flags the first tick where two clients disagree
+public class DesyncMonitor implements Runnable{
+
+    private final SpaceRepository repository;
+    private final int lobbyID;
+    private final int nrOfPlayers;
+    private boolean running = true;
+
+    //A player this far behind the newest report has left or stopped reporting, so older ticks stop waiting for it
+    static final int REPORT_WINDOW = Constants.STATE_HASH_DELAY;
+
+    //Hashes of ticks not every player has reported yet, a tick is dropped as soon as the last player reports it
+    //or once it is REPORT_WINDOW ticks older than the newest report
+    private final NavigableMap<Integer, PendingTick> pending = new TreeMap<>();
+    private int newestClock = Integer.MIN_VALUE;
+
+    //Earliest tick where the clients disagreed, or -1 while they all agree
+    @Getter
+    private volatile int firstDivergentClock = -1;
+
+    private static class PendingTick {
+        private final long hash;
+        private int reports = 1;
+
+        private PendingTick(long hash) {
+            this.hash = hash;
+        }
+    }
+
+    public DesyncMonitor(SpaceRepository repository, int lobbyID, int nrOfPlayers){
+        this.repository = repository;
+        this.lobbyID = lobbyID;
+        this.nrOfPlayers = nrOfPlayers;
+    }
+
+    @Override
+    public void run() {
+        Space stateHashes = repository.get(lobbyID+"stateHash");
+        while(running) {
+            try {
+                Object[] t = stateHashes.get(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Long.class));
+                report((int) t[0], (int) t[1], (long) t[2]);
+            } catch (InterruptedException e) {
+                //Interrupted when the lobby is stopped
+                return;
+            }
+        }
+    }
+
+    //Returns true if this report disagrees with an earlier report for the same tick
+    public synchronized boolean report(int playerID, int clock, long hash){
+        if(clock > newestClock){
+            newestClock = clock;
+            pending.headMap(clock - REPORT_WINDOW).clear();
+        }
+
+        PendingTick tick = pending.get(clock);
+        if(tick == null){
+            if(nrOfPlayers > 1 && clock >= newestClock - REPORT_WINDOW){
+                pending.put(clock, new PendingTick(hash));
+            }
+            return false;
+        }
+
+        tick.reports++;
+        if(tick.reports >= nrOfPlayers){
+            pending.remove(clock);
+        }
+        if(tick.hash == hash){
+            return false;
+        }
+
+        if(firstDivergentClock == -1 || clock < firstDivergentClock){
+            firstDivergentClock = clock;
+            System.out.println("Lobby "+lobbyID+" desynced at tick "+clock+": player "+playerID+" reported "+Long.toHexString(hash)+", expected "+Long.toHexString(tick.hash));
+        }
+        return true;
+    }
+
+    synchronized int pendingTicks(){
+        return pending.size();
+    }
+
+    public boolean isDesynced(){
+        return firstDivergentClock != -1;
+    }
+
+    public void stop() {
+        running = false;
+        repository.remove(lobbyID+"stateHash");
+    }
+}
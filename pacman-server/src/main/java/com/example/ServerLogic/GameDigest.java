@@ -0,0 +1,24 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.GameState;
+import com.example.model.Player;
+
+//Result of replaying a lobby's ledger: the clock the replay stopped at, the winner (-1 if the game was not finished) and every player's points by player id
+public record GameDigest(int lobbyID, int clock, int winnerId, List<Integer> points) {
+
+    public static GameDigest of(int lobbyID, GameState state) {
+        List<Integer> points = new ArrayList<>(state.players().size());
+        for (Player p : state.players()) {
+            points.add(p.getPoints());
+        }
+        int winnerId = state.winner() == null ? -1 : state.winner().getId();
+        return new GameDigest(lobbyID, state.clock(), winnerId, List.copyOf(points));
+    }
+
+    public boolean finished() {
+        return winnerId >= 0;
+    }
+}
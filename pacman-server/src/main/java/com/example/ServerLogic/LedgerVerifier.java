@@ -0,0 +1,85 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.example.GameLogic.GameController;
+import com.example.model.Action;
+import com.example.model.ActionList;
+import com.example.model.Constants;
+import com.example.model.GameState;
+
+//Replays clean action ledgers on a headless GameController to get the authoritative result of a game
+//The game is deterministic given its ledger, so the server computes the same states as the clients without trusting them
+public class LedgerVerifier {
+
+    //No game outlives its lobby
+    public static final int MAX_TICKS = (int) (Constants.LOBBY_TTL * Constants.TARGET_FPS / 1000);
+
+    private final ExecutorService workers;
+    //One controller per worker, so the entity store it reuses every tick is also reused across games
+    private final ThreadLocal<GameController> controllers = ThreadLocal.withInitial(GameController::new);
+
+    //Everything needed to replay one game: the clean actions ordered by index and the clock to replay up to
+    public record Ledger(int lobbyID, int nrOfPlayers, List<Action> actions, int endClock) { }
+
+    //One worker per core, replaying a game is pure computation
+    public LedgerVerifier() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public LedgerVerifier(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Ledger verifier needs at least one thread, was " + threads);
+        }
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "ledger-verifier");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    //Replays the ledger until the game has a winner or the end clock is reached
+    //Uses the calling thread's controller, so it is safe to call from several threads at once
+    public GameDigest verify(Ledger ledger) {
+        GameController controller = controllers.get();
+
+        //Local ledger instead of Constants.cleanActions, which belongs to the client's own game
+        ActionList actions = new ActionList();
+        for (Action action : ledger.actions()) {
+            actions.addAction(action);
+        }
+
+        GameState state = controller.initializeGameState(ledger.nrOfPlayers());
+        int endClock = Math.min(ledger.endClock(), MAX_TICKS);
+        while (state.clock() < endClock && state.winner() == null) {
+            state = controller.updateGameState(state, actions.getActions(state.clock() + 1));
+        }
+        return GameDigest.of(ledger.lobbyID(), state);
+    }
+
+    public CompletableFuture<GameDigest> submit(Ledger ledger) {
+        return CompletableFuture.supplyAsync(() -> verify(ledger), workers);
+    }
+
+    //Spreads the ledgers over the workers and waits for all of them, digests are returned in the same order as the ledgers
+    public List<GameDigest> verifyAll(List<Ledger> ledgers) {
+        List<CompletableFuture<GameDigest>> pending = new ArrayList<>(ledgers.size());
+        for (Ledger ledger : ledgers) {
+            pending.add(submit(ledger));
+        }
+
+        List<GameDigest> digests = new ArrayList<>(ledgers.size());
+        for (CompletableFuture<GameDigest> future : pending) {
+            digests.add(future.join());
+        }
+        return digests;
+    }
+
+    public void stop() {
+        workers.shutdownNow();
+    }
+}
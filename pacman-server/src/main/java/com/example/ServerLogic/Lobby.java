@@ -0,0 +1,121 @@
+package com.example.ServerLogic;
+
+import com.example.model.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+
+import com.example.GameLogic.*;
+
+public class Lobby {
+
+    private final SpaceRepository rep;
+    @Getter
+    private final int nrOfPlayers;
+    private final LobbyActionHandler actionHandler;
+    @Getter
+    private final DesyncMonitor desyncMonitor;
+    @Getter
+    private final int lobbyID;
+    @Getter
+    private final long timeOfCreation;
+    //Every task of the lobby gets its own virtual thread here, so a lobby costs no OS threads while it waits
+    //on its spaces, and stopping the lobby interrupts all of them at once
+    private final ExecutorService tasks;
+    //Completed with the id of the first player to quit
+    @Getter
+    private final CompletableFuture<Integer> quit = new CompletableFuture<>();
+
+    public Lobby(SpaceRepository rep, int nrOfPlayers, int lobbyID, long timeOfCreation){
+        this.lobbyID = lobbyID;
+        this.rep = rep;
+        this.nrOfPlayers = nrOfPlayers;
+        this.actionHandler = new LobbyActionHandler(rep, lobbyID);
+        this.desyncMonitor = new DesyncMonitor(rep, lobbyID, nrOfPlayers);
+        this.timeOfCreation = timeOfCreation;
+        this.tasks = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lobby-"+lobbyID+"-", 0).factory());
+    }
+
+    public void start(){
+        tasks.execute(actionHandler);
+        tasks.execute(desyncMonitor);
+        //Taken here, as stopping the lobby removes it from the repository, possibly before the tasks run
+        Space sync = rep.get(lobbyID+"sync");
+        tasks.execute(() -> handshake(sync));
+        tasks.execute(() -> awaitQuit(sync));
+    }
+
+    //Hands out the player ids and starts the game once every player has answered
+    private void handshake(Space sync){
+        try {
+            for(int i = 0; i < nrOfPlayers; i++){
+                sync.put(i, nrOfPlayers, "PLAYERID");
+            }
+
+            for(int i = 0; i < nrOfPlayers; i++){
+                sync.get(new ActualField(i), new ActualField(nrOfPlayers), new ActualField("OK"));
+            }
+
+            sync.put(0, nrOfPlayers, "START");
+        } catch (InterruptedException e) {
+            //The lobby was stopped before every player joined
+        }
+    }
+
+    private void awaitQuit(Space sync){
+        try {
+            Object[] t = sync.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("QUIT"));
+            quit.complete((int) t[0]);
+        } catch (InterruptedException e) {
+            //The lobby was stopped before anyone quit
+        }
+    }
+
+    public void stop(){
+        actionHandler.stop();
+        desyncMonitor.stop();
+        tasks.shutdownNow();
+    }
+
+    //True once every task of a stopped lobby has finished
+    boolean awaitStopped(long timeoutMillis) throws InterruptedException {
+        return tasks.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //Snapshot of the clean actions handed out so far, replayed up to the time the lobby has been open
+    //Must be taken before stop, which removes the lobby's spaces
+    public LedgerVerifier.Ledger ledger(){
+        List<Action> actions = new ArrayList<>();
+        Space cleanActions = rep.get(lobbyID+"cleanAction");
+        if(cleanActions != null){
+            try {
+                List<Object[]> tuples = cleanActions.queryAll(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class));
+                for(Object[] t : tuples){
+                    actions.add(ActionUtil.convertObjToAction(t));
+                }
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }
+        actions.sort(Comparator.comparingInt(Action::getIndex));
+
+        int elapsedTicks = (int) ((System.currentTimeMillis() - timeOfCreation) * Constants.TARGET_FPS / 1000);
+        return new LedgerVerifier.Ledger(lobbyID, nrOfPlayers, actions, elapsedTicks);
+    }
+
+    public SpaceRepository getRep(){
+        return rep;
+    }
+
+}
\ No newline at end of file
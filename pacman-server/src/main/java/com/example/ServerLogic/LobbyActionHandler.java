@@ -0,0 +1,59 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspace.SpaceRepository;
+
+import com.example.model.Action;
+
+public class LobbyActionHandler implements Runnable{
+
+    SpaceRepository repository;
+    int lobbyID;
+    boolean running = true;
+
+    public LobbyActionHandler(SpaceRepository repository, int lobbyID){
+        this.repository = repository;
+        this.lobbyID = lobbyID;
+    }
+
+    //Takes every raw action that has arrived since the last pass, gives them their index and clamped clock,
+    //and publishes them to the clean actions together
+    @Override
+    public void run() {
+        RawActionInbox rawActions = (RawActionInbox) repository.get(lobbyID+"rawAction");
+        ActionStreamSpace cleanActions = (ActionStreamSpace) repository.get(lobbyID+"cleanAction");
+        List<Action> raw = new ArrayList<>();
+        List<Action> clean = new ArrayList<>();
+        int actionCount = 0;
+        int clock = 0;
+        while(running) {
+            try {
+                rawActions.drainTo(raw);
+            } catch (InterruptedException e) {
+                //Interrupted when the lobby is stopped
+                return;
+            }
+            for(Action rawAction : raw) {
+                //An action can not be for a tick before an action already handed out
+                clock = Math.max(rawAction.clock(), clock);
+                clean.add(new Action(rawAction.getPlayerId(), clock, rawAction.getMove(), actionCount++));
+            }
+            cleanActions.putAll(clean);
+            raw.clear();
+            clean.clear();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        repository.remove(lobbyID+"rawAction");
+        //Ends the streams of clean actions still being sent to players
+        if(repository.remove(lobbyID+"cleanAction") instanceof ActionStreamSpace cleanActions){
+            cleanActions.close();
+        }
+        repository.remove(lobbyID+"sync");
+    }
+    
+}
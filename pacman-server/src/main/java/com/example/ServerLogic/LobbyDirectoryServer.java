@@ -0,0 +1,29 @@
+package com.example.ServerLogic;
+
+import org.jspace.SequentialSpace;
+import org.jspace.SpaceRepository;
+
+import com.example.model.Constants;
+
+//The lobby directory service for sharded deployments, a gate with one space the shards register in
+//Run with: 'mvn exec:java -Dexec.mainClass=com.example.ServerLogic.LobbyDirectoryServer -Ddirectory=tcp://<host>:<port>/?keep'
+//see JSpaceLobbyDirectory for what it holds
+public class LobbyDirectoryServer {
+
+    public static void main(String[] arg){
+        if(Constants.LOBBY_DIRECTORY_URI == null){
+            System.out.println("Run with -Ddirectory=tcp://<host>:<port>/?keep");
+            return;
+        }
+        SpaceRepository rep = new SpaceRepository();
+        rep.addGate(Constants.LOBBY_DIRECTORY_URI);
+        rep.add("directory", new SequentialSpace());
+        System.out.println("Lobby directory running at "+Constants.LOBBY_DIRECTORY_URI);
+        try {
+            //The gate serves the directory, this only keeps the process up
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            rep.shutDown();
+        }
+    }
+}
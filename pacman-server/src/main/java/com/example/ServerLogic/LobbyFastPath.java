@@ -0,0 +1,52 @@
+package com.example.ServerLogic;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+
+//Creates a lobby and joins its first player in one request, so a client goes from nothing to a player id in one reply
+//instead of taking a free id, asking for the lobby, waiting for it and then connecting to its sync space for a player id
+//Over jSpace a client puts (requestID, nrOfPlayers, "CREATE_JOIN") in space1 and gets (requestID, lobbyID, playerID, nrOfPlayers, "JOINED")
+//back, the NIO lobby server answers its CREATE_JOIN frame with the same steps
+//Every worker takes one request at a time, and ServerController creates lobbies one at a time anyway,
+//so a few workers keep up with a burst of requests without a thread per request
+public class LobbyFastPath implements Runnable {
+
+    public static final int WORKERS = 4;
+
+    private final SpaceRepository rep;
+    private final Space space1;
+
+    public LobbyFastPath(SpaceRepository rep, Space space1){
+        this.rep = rep;
+        this.space1 = space1;
+    }
+
+    //The steps a client used to take over the network, done next to the spaces, returns {lobbyID, playerID, nrOfPlayers}
+    public static int[] createAndJoin(SpaceRepository rep, Space space1, int nrOfPlayers) throws InterruptedException {
+        int lobbyID = (int) space1.get(new FormalField(Integer.class), new ActualField(0), new ActualField("FREE"))[0];
+        space1.put(lobbyID, nrOfPlayers, "CREATE");
+        space1.get(new ActualField(lobbyID), new ActualField(nrOfPlayers), new ActualField("OK"));
+
+        Space sync = rep.get(lobbyID+"sync");
+        Object[] t = sync.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("PLAYERID"));
+        return new int[] {lobbyID, (int) t[0], (int) t[1]};
+    }
+
+    //One worker, answers requests from the jSpace gate one after another, run it on WORKERS threads
+    @Override
+    public void run(){
+        try {
+            while(true){
+                Object[] request = space1.get(new FormalField(String.class), new FormalField(Integer.class), new ActualField("CREATE_JOIN"));
+                String requestID = (String) request[0];
+                int nrOfPlayers = (int) request[1];
+                int[] t = createAndJoin(rep, space1, nrOfPlayers);
+                space1.put(requestID, t[0], t[1], t[2], "JOINED");
+            }
+        } catch (InterruptedException e) {
+            //Server stopped
+        }
+    }
+}
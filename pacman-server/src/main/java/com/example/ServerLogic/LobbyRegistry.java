@@ -0,0 +1,116 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspace.Space;
+
+import com.example.model.Constants;
+
+//Every open lobby by id, safe to use from any thread
+//A lobby is closed as soon as one of its players quits or its LOBBY_TTL runs out, whichever comes first,
+//and its id goes straight back to the free lobbies in space1
+public class LobbyRegistry {
+
+    private static final class Entry {
+        private final Lobby lobby;
+        private volatile TimerWheel.Timeout expiry;
+
+        private Entry(Lobby lobby) {
+            this.lobby = lobby;
+        }
+    }
+
+    private final Map<Integer, Entry> lobbys = new ConcurrentHashMap<>();
+    private final Space space1;
+    private final LedgerVerifier verifier;
+    private final TimerWheel timers;
+    //Lobbies are closed here, never on the thread of the lobby being stopped or on the timer wheel
+    private final ExecutorService closer = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lobby-closer-", 0).factory());
+
+    public LobbyRegistry(Space space1, LedgerVerifier verifier, TimerWheel timers){
+        this.space1 = space1;
+        this.verifier = verifier;
+        this.timers = timers;
+    }
+
+    //Must be given started lobbies
+    public void addLobby(Lobby lobby){
+        Entry entry = new Entry(lobby);
+        lobbys.put(lobby.getLobbyID(), entry);
+
+        long remaining = Constants.LOBBY_TTL - (System.currentTimeMillis() - lobby.getTimeOfCreation());
+        entry.expiry = timers.schedule(remaining, () -> closer.execute(() -> close(lobby, "exeeded TTL")));
+        lobby.getQuit().thenRunAsync(() -> close(lobby, "player quiting"), closer);
+    }
+
+    public int size(){
+        return lobbys.size();
+    }
+
+    public boolean contains(int lobbyID){
+        return lobbys.containsKey(lobbyID);
+    }
+
+    //Only the first close of a lobby does anything, so a quit and an expiry at the same time close it once
+    private void close(Lobby lobby, String reason){
+        int lobbyID = lobby.getLobbyID();
+        Entry entry = lobbys.get(lobbyID);
+        if(entry == null || entry.lobby != lobby || !lobbys.remove(lobbyID, entry)){
+            return;
+        }
+        TimerWheel.Timeout expiry = entry.expiry;
+        if(expiry != null){
+            expiry.cancel();
+        }
+
+        verify(lobby);
+        lobby.stop();
+        System.out.println("Closing lobby "+lobbyID+" due to "+reason);
+        try {
+            space1.put(lobbyID, 0, "FREE");
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //Replays the lobby's ledger in the background and prints the authoritative result
+    private void verify(Lobby lobby){
+        verifier.submit(lobby.ledger())
+            .thenAccept(digest -> System.out.println("Verified lobby "+digest.lobbyID()+" at tick "+digest.clock()+": "
+                + (digest.finished() ? "player "+digest.winnerId()+" won" : "no winner")+", points "+digest.points()))
+            .exceptionally(e -> {
+                e.printStackTrace();
+                return null;
+            });
+    }
+
+    public void closeAllLobbys(){
+        System.out.println("Closing all lobbys...");
+        List<Entry> open = new ArrayList<>(lobbys.values());
+        for(Entry entry : open){
+            close(entry.lobby, "server closing all lobbys");
+        }
+        System.out.println("All lobbys have been closed");
+    }
+
+    public void showActiveLobbys(){
+        System.out.println("Loading active lobbys...");
+        if(lobbys.isEmpty()){
+            System.out.println("No active lobbys");
+        }else{
+            for(int lobbyID : lobbys.keySet()) {
+                System.out.println("Lobby "+lobbyID+" is active");
+            }
+        }
+        System.out.println("All lobbys have been displayed");
+    }
+
+    public void stop(){
+        closer.shutdownNow();
+    }
+}
@@ -0,0 +1,493 @@
+package com.example.ServerLogic;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+
+import com.example.GameLogic.ActionCodec;
+import com.example.GameLogic.LobbyProtocol;
+import com.example.GameLogic.LobbyProtocol.Frame;
+import com.example.GameLogic.LobbyProtocol.FrameWriter;
+import com.example.model.Action;
+
+//Selector based server for the lobby protocol, an alternative to the jSpace gate for clients run with -Dtransport=nio
+//A few event loop threads own every connection's socket and only do non-blocking work on them: reading frames,
+//putting raw actions, hashes and quits into the lobby's spaces and writing queued replies
+//Requests that wait on a space (creating, joining and starting a game, streaming clean actions) run on virtual threads
+//and hand their replies back to the connection, so thousands of mostly idle connections cost a few OS threads
+//Both transports meet in the same SpaceRepository, so lobbies do not know which one their players use
+public class NioLobbyServer {
+
+    public static final int DEFAULT_EVENT_LOOPS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    //A connection stops being read from, and its clean action stream stops being filled,
+    //while more than HIGH_WATER bytes wait to be written to it, until it is back under LOW_WATER
+    private static final int HIGH_WATER = 256 * 1024;
+    private static final int LOW_WATER = 64 * 1024;
+    private static final int MAX_ACTIONS_PER_FRAME = 4096;
+
+    private final SpaceRepository rep;
+    private final Space space1;
+    private final ServerSocketChannel serverChannel;
+    private final EventLoop[] loops;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private final ExecutorService requests = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("nio-request-", 0).factory());
+
+    public NioLobbyServer(SpaceRepository rep, Space space1, int port, int eventLoops) throws IOException {
+        this.rep = rep;
+        this.space1 = space1;
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        this.loops = new EventLoop[eventLoops];
+        for (int i = 0; i < eventLoops; i++) {
+            loops[i] = new EventLoop(Selector.open());
+        }
+    }
+
+    public void start() {
+        loops[0].execute(() -> {
+            try {
+                serverChannel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+        for (int i = 0; i < loops.length; i++) {
+            Thread.ofPlatform().name("nio-loop-" + i).daemon().start(loops[i]);
+        }
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public void close() {
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        for (EventLoop loop : loops) {
+            loop.close();
+        }
+        requests.shutdownNow();
+    }
+
+    //Accepted connections are spread over the loops round robin and stay on their loop until closed
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            EventLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+            SocketChannel accepted = channel;
+            loop.execute(() -> loop.register(accepted));
+        }
+    }
+
+    private final class EventLoop implements Runnable {
+
+        private final Selector selector;
+        //Work handed to the loop by other threads, run on the loop between selects
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        private EventLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        private void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        private void register(SocketChannel channel) {
+            try {
+                Connection connection = new Connection(channel, this);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (selector.isOpen()) {
+                    selector.select();
+                    Runnable task;
+                    while ((task = tasks.poll()) != null) {
+                        task.run();
+                    }
+
+                    Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                    while (selected.hasNext()) {
+                        SelectionKey key = selected.next();
+                        selected.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                            continue;
+                        }
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.write();
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                //Server closed
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        private void close() {
+            try {
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof Connection connection) {
+                        connection.close();
+                    }
+                }
+                selector.close();
+            } catch (IOException | ClosedSelectorException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final EventLoop loop;
+        private SelectionKey key;
+        //Only touched by the loop
+        private ByteBuffer in = ByteBuffer.allocate(4096);
+        private final ActionCodec rawCodec = ActionCodec.raw();
+
+        //Guarded by this, filled by any thread and drained by the loop
+        private final Queue<ByteBuffer> out = new ArrayDeque<>();
+        private int pendingBytes;
+        private boolean writeScheduled;
+        private boolean closed;
+        private final List<Future<?>> running = new ArrayList<>();
+
+        private Connection(SocketChannel channel, EventLoop loop) {
+            this.channel = channel;
+            this.loop = loop;
+        }
+
+        private void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+            in.flip();
+            while (in.remaining() >= 4) {
+                int length = in.getInt(in.position());
+                if (length <= 0 || length > LobbyProtocol.MAX_FRAME) {
+                    throw new IOException("Frame of " + length + " bytes");
+                }
+                if (in.remaining() < 4 + length) {
+                    break;
+                }
+                in.position(in.position() + 4);
+                byte[] body = new byte[length];
+                in.get(body);
+                handle(Frame.of(body));
+            }
+            in.compact();
+            if (!in.hasRemaining()) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.min(in.capacity() * 2, LobbyProtocol.MAX_FRAME + 4));
+                in.flip();
+                larger.put(in);
+                in = larger;
+            }
+
+            synchronized (this) {
+                if (pendingBytes > HIGH_WATER && key.isValid()) {
+                    key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                }
+            }
+        }
+
+        //Runs on the loop, so everything that could wait on a space is handed to a virtual thread
+        private void handle(Frame frame) throws IOException {
+            switch (frame.type()) {
+                case LobbyProtocol.CREATE -> {
+                    int requestID = frame.varint();
+                    int nrOfPlayers = frame.varint();
+                    submit(requestID, () -> create(requestID, nrOfPlayers));
+                }
+                case LobbyProtocol.CREATE_JOIN -> {
+                    int requestID = frame.varint();
+                    int nrOfPlayers = frame.varint();
+                    submit(requestID, () -> createAndJoin(requestID, nrOfPlayers));
+                }
+                case LobbyProtocol.JOIN -> {
+                    int requestID = frame.varint();
+                    int lobbyID = frame.varint();
+                    submit(requestID, () -> join(requestID, lobbyID));
+                }
+                case LobbyProtocol.READY -> {
+                    int requestID = frame.varint();
+                    int lobbyID = frame.varint();
+                    int playerID = frame.varint();
+                    int nrOfPlayers = frame.varint();
+                    submit(requestID, () -> ready(requestID, lobbyID, playerID, nrOfPlayers));
+                }
+                case LobbyProtocol.QUIT -> {
+                    int lobbyID = frame.varint();
+                    int playerID = frame.varint();
+                    int nrOfPlayers = frame.varint();
+                    Space sync = rep.get(lobbyID + "sync");
+                    if (sync != null) {
+                        put(sync, playerID, nrOfPlayers, "QUIT");
+                    }
+                }
+                case LobbyProtocol.IS_FREE -> {
+                    int requestID = frame.varint();
+                    int lobbyID = frame.varint();
+                    boolean free;
+                    try {
+                        free = space1.queryp(new ActualField(lobbyID), new ActualField(0), new ActualField("FREE")) != null;
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    send(new FrameWriter(LobbyProtocol.FREE).varint(requestID).varint(free ? 1 : 0).finish());
+                }
+                case LobbyProtocol.RAW_ACTION -> {
+                    int lobbyID = frame.varint();
+                    Action action = rawCodec.read(frame.body());
+                    Space rawActions = rep.get(lobbyID + "rawAction");
+                    if (rawActions != null) {
+                        put(rawActions, action.getPlayerId(), action.clock(), action.getMove());
+                    }
+                }
+                case LobbyProtocol.SUBSCRIBE -> {
+                    int lobbyID = frame.varint();
+                    int from = frame.varint();
+                    submit(LobbyProtocol.NO_REQUEST, () -> streamCleanActions(lobbyID, from));
+                }
+                case LobbyProtocol.STATE_HASH -> {
+                    int lobbyID = frame.varint();
+                    int playerID = frame.varint();
+                    int clock = frame.varint();
+                    long hash = frame.int64();
+                    Space stateHashes = rep.get(lobbyID + "stateHash");
+                    if (stateHashes != null) {
+                        put(stateHashes, playerID, clock, hash);
+                    }
+                }
+                default -> throw new IOException("Unknown frame type " + frame.type());
+            }
+        }
+
+        //The lobby's raw action inbox, sync and state hash spaces never block on put
+        private void put(Space space, Object... fields) throws IOException {
+            try {
+                space.put(fields);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+
+        private void create(int requestID, int nrOfPlayers) throws InterruptedException {
+            int lobbyID = (int) space1.get(new FormalField(Integer.class), new ActualField(0), new ActualField("FREE"))[0];
+            space1.put(lobbyID, nrOfPlayers, "CREATE");
+            space1.get(new ActualField(lobbyID), new ActualField(nrOfPlayers), new ActualField("OK"));
+            send(new FrameWriter(LobbyProtocol.LOBBY).varint(requestID).varint(lobbyID).finish());
+        }
+
+        private void createAndJoin(int requestID, int nrOfPlayers) throws InterruptedException {
+            int[] t = LobbyFastPath.createAndJoin(rep, space1, nrOfPlayers);
+            send(new FrameWriter(LobbyProtocol.LOBBY_JOINED).varint(requestID).varint(t[0]).varint(t[1]).varint(t[2]).finish());
+        }
+
+        private void join(int requestID, int lobbyID) throws InterruptedException {
+            Space sync = rep.get(lobbyID + "sync");
+            if (sync == null) {
+                sendError(requestID, "Lobby " + lobbyID + " not found");
+                return;
+            }
+            Object[] t = sync.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("PLAYERID"));
+            send(new FrameWriter(LobbyProtocol.JOINED).varint(requestID).varint((int) t[0]).varint((int) t[1]).finish());
+        }
+
+        private void ready(int requestID, int lobbyID, int playerID, int nrOfPlayers) throws InterruptedException {
+            Space sync = rep.get(lobbyID + "sync");
+            if (sync == null) {
+                sendError(requestID, "Lobby " + lobbyID + " not found");
+                return;
+            }
+            sync.put(playerID, nrOfPlayers, "OK");
+            sync.query(new ActualField(0), new ActualField(nrOfPlayers), new ActualField("START"));
+            send(new FrameWriter(LobbyProtocol.START).varint(requestID).finish());
+        }
+
+        //Streams every clean action from index from onward until the lobby stops or the connection closes
+        private void streamCleanActions(int lobbyID, int from) throws InterruptedException {
+            if (!(rep.get(lobbyID + "cleanAction") instanceof ActionStreamSpace cleanActions)) {
+                sendError(LobbyProtocol.NO_REQUEST, "Lobby " + lobbyID + " not found");
+                return;
+            }
+            ActionCodec codec = ActionCodec.clean(from);
+            List<Action> batch = new ArrayList<>();
+            int next = from;
+            while (true) {
+                batch.clear();
+                int count = cleanActions.awaitFrom(next, batch);
+                if (count < 0) {
+                    send(new FrameWriter(LobbyProtocol.LOBBY_CLOSED).varint(lobbyID).finish());
+                    return;
+                }
+                next += count;
+                for (int start = 0; start < batch.size(); start += MAX_ACTIONS_PER_FRAME) {
+                    int end = Math.min(batch.size(), start + MAX_ACTIONS_PER_FRAME);
+                    FrameWriter frame = new FrameWriter(LobbyProtocol.CLEAN_ACTIONS).varint(lobbyID).varint(end - start);
+                    try {
+                        for (Action action : batch.subList(start, end)) {
+                            codec.write(action, frame);
+                        }
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    send(frame.finish());
+                }
+                awaitWritable();
+            }
+        }
+
+        //Each request waits on its own virtual thread, so one waiting for the game to start does not hold up the others
+        private void submit(int requestID, Request request) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                running.removeIf(Future::isDone);
+                running.add(requests.submit(() -> {
+                    try {
+                        request.run();
+                    } catch (InterruptedException e) {
+                        //Connection closed while the request waited
+                    } catch (RuntimeException e) {
+                        e.printStackTrace();
+                        sendError(requestID, e.toString());
+                    }
+                }));
+            }
+        }
+
+        private void sendError(int requestID, String message) {
+            send(new FrameWriter(LobbyProtocol.ERROR).varint(requestID).string(message).finish());
+        }
+
+        //Safe from any thread, the frame is written by the loop
+        private void send(byte[] frame) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                out.add(ByteBuffer.wrap(frame));
+                pendingBytes += frame.length;
+                if (writeScheduled) {
+                    return;
+                }
+                writeScheduled = true;
+            }
+            loop.execute(() -> {
+                if (key.isValid()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                }
+            });
+        }
+
+        private synchronized void write() throws IOException {
+            while (!out.isEmpty()) {
+                ByteBuffer next = out.peek();
+                channel.write(next);
+                if (next.hasRemaining()) {
+                    break;
+                }
+                pendingBytes -= next.limit();
+                out.poll();
+            }
+            int ops = key.interestOps();
+            if (out.isEmpty()) {
+                ops &= ~SelectionKey.OP_WRITE;
+                writeScheduled = false;
+            }
+            if (pendingBytes < LOW_WATER) {
+                ops |= SelectionKey.OP_READ;
+                notifyAll();
+            }
+            key.interestOps(ops);
+        }
+
+        private synchronized void awaitWritable() throws InterruptedException {
+            while (pendingBytes > HIGH_WATER && !closed) {
+                wait();
+            }
+        }
+
+        private void close() {
+            List<Future<?>> cancelled;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                out.clear();
+                pendingBytes = 0;
+                notifyAll();
+                cancelled = new ArrayList<>(running);
+                running.clear();
+            }
+            for (Future<?> request : cancelled) {
+                request.cancel(true);
+            }
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run() throws InterruptedException;
+    }
+}
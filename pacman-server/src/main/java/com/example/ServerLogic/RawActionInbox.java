@@ -0,0 +1,243 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jspace.Space;
+import org.jspace.TemplateField;
+
+import com.example.model.Action;
+
+//Raw action space of a lobby, a lock-free multi-producer queue
+//Clients put (playerId, clock, move) tuples from the gate's connection threads, each put is one atomic swap,
+//and the lobby's action handler takes everything that has arrived in one go with drainTo
+//Template based reads work too, as a slow path: they move what has arrived off the queue into a list
+//and search that, and drainTo hands out what they leave behind before anything newer
+public class RawActionInbox implements Space {
+
+    private static final class Node {
+        private Action action;
+        private volatile Node next;
+
+        private Node(Action action) {
+            this.action = action;
+        }
+    }
+
+    //Producers append at the tail, readers own head, which is always an already consumed node
+    private final AtomicReference<Node> tail;
+    //Guarded by readLock
+    private Node head;
+    private final AtomicInteger size = new AtomicInteger();
+
+    //Held by whoever reads, never by producers
+    private final ReentrantLock readLock = new ReentrantLock();
+    //Guarded by readLock, actions moved off the queue by template reads and not taken yet, in arrival order
+    private final List<Action> pulled = new ArrayList<>();
+    //Readers parked until the next put
+    private final Set<Thread> waiting = ConcurrentHashMap.newKeySet();
+
+    public RawActionInbox() {
+        Node stub = new Node(null);
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean put(Object... fields) {
+        if (fields.length != 3 || !(fields[0] instanceof Integer playerId)
+            || !(fields[1] instanceof Integer clock) || !(fields[2] instanceof Integer move)) {
+            throw new IllegalArgumentException("Raw actions are (playerId, clock, move) tuples");
+        }
+        Node node = new Node(new Action(playerId, clock, move, -1));
+        Node previous = tail.getAndSet(node);
+        previous.next = node;
+        size.incrementAndGet();
+
+        for (Thread reader : waiting) {
+            LockSupport.unpark(reader);
+        }
+        return true;
+    }
+
+    //Blocks until at least one raw action has arrived, then moves every arrived action to the list in arrival order
+    public int drainTo(List<Action> actions) throws InterruptedException {
+        return await(() -> {
+            int drained = pulled.size();
+            actions.addAll(pulled);
+            pulled.clear();
+            drained += drainQueue(actions);
+            if (drained == 0) {
+                return null;
+            }
+            size.addAndGet(-drained);
+            return drained;
+        });
+    }
+
+    @Override
+    public Object[] get(TemplateField... fields) throws InterruptedException {
+        return await(() -> take(fields));
+    }
+
+    @Override
+    public Object[] getp(TemplateField... fields) {
+        readLock.lock();
+        try {
+            return take(fields);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    //In arrival order
+    @Override
+    public List<Object[]> getAll(TemplateField... fields) {
+        readLock.lock();
+        try {
+            drainQueue(pulled);
+            List<Object[]> found = new ArrayList<>();
+            Iterator<Action> actions = pulled.iterator();
+            while (actions.hasNext()) {
+                Object[] tuple = tuple(actions.next());
+                if (matches(tuple, fields)) {
+                    actions.remove();
+                    found.add(tuple);
+                }
+            }
+            size.addAndGet(-found.size());
+            return found;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] query(TemplateField... fields) throws InterruptedException {
+        return await(() -> find(fields));
+    }
+
+    @Override
+    public Object[] queryp(TemplateField... fields) {
+        readLock.lock();
+        try {
+            return find(fields);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    //In arrival order
+    @Override
+    public List<Object[]> queryAll(TemplateField... fields) {
+        readLock.lock();
+        try {
+            drainQueue(pulled);
+            List<Object[]> found = new ArrayList<>();
+            for (Action action : pulled) {
+                Object[] tuple = tuple(action);
+                if (matches(tuple, fields)) {
+                    found.add(tuple);
+                }
+            }
+            return found;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    //Runs the read under the read lock until it finds something, parking between puts
+    //The reader is registered before it looks, so a put after the look leaves a permit and park returns straight away
+    private <T> T await(Supplier<T> read) throws InterruptedException {
+        Thread reader = Thread.currentThread();
+        waiting.add(reader);
+        try {
+            while (true) {
+                readLock.lock();
+                try {
+                    T found = read.get();
+                    if (found != null) {
+                        return found;
+                    }
+                } finally {
+                    readLock.unlock();
+                }
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiting.remove(reader);
+        }
+    }
+
+    //Must hold readLock, moves every action that has arrived on the queue to the list, size is left to the caller
+    private int drainQueue(List<Action> out) {
+        int drained = 0;
+        Node next;
+        while ((next = head.next) != null) {
+            out.add(next.action);
+            next.action = null;
+            head = next;
+            drained++;
+        }
+        return drained;
+    }
+
+    //Must hold readLock
+    private Object[] find(TemplateField[] fields) {
+        drainQueue(pulled);
+        for (Action action : pulled) {
+            Object[] tuple = tuple(action);
+            if (matches(tuple, fields)) {
+                return tuple;
+            }
+        }
+        return null;
+    }
+
+    //Must hold readLock
+    private Object[] take(TemplateField[] fields) {
+        drainQueue(pulled);
+        Iterator<Action> actions = pulled.iterator();
+        while (actions.hasNext()) {
+            Object[] tuple = tuple(actions.next());
+            if (matches(tuple, fields)) {
+                actions.remove();
+                size.decrementAndGet();
+                return tuple;
+            }
+        }
+        return null;
+    }
+
+    private static Object[] tuple(Action action) {
+        return new Object[] {action.getPlayerId(), action.clock(), action.getMove()};
+    }
+
+    private static boolean matches(Object[] tuple, TemplateField[] fields) {
+        if (tuple.length != fields.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].match(tuple[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
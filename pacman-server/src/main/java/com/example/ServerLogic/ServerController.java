@@ -0,0 +1,99 @@
+package com.example.ServerLogic;
+
+import java.io.IOException;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.QueueSpace;
+import org.jspace.RandomSpace;
+import org.jspace.RemoteSpace;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+
+import com.example.GameLogic.JSpaceLobbyDirectory;
+import com.example.GameLogic.URIUtil;
+import com.example.model.Constants;
+
+public class ServerController {
+ 
+    private static final SpaceRepository rep = new SpaceRepository();
+
+    private static final Space space1 = new RandomSpace();
+
+    public static void main(String[] arg){
+        rep.addGate(Constants.LOCAL_GATE);
+        rep.add("space1", space1);
+        //Each shard owns the lobby ids that are its index modulo the number of shards, so ids never clash between shards
+        for(int i = 0; i < Constants.NR_OF_LOBBYS_CAP; i++){
+            try {
+                space1.put(Constants.SHARD_INDEX + i * Constants.NR_OF_SHARDS, 0, "FREE");
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }
+
+        LedgerVerifier verifier = new LedgerVerifier();
+        //Lobby TTLs are kept on a wheel of 10 second turns with 100 ms ticks
+        TimerWheel timers = new TimerWheel(100, 100);
+        Thread.ofVirtual().name("lobby-timers").start(timers);
+        LobbyRegistry lobbyRegistry = new LobbyRegistry(space1, verifier, timers);
+        ServerIO serverIO = new ServerIO(lobbyRegistry);
+        Thread.ofVirtual().name("server-io").start(serverIO);
+        //Part of the jSpace gate, it only answers tuples put in space1
+        LobbyFastPath fastPath = new LobbyFastPath(rep, space1);
+        for(int i = 0; i < LobbyFastPath.WORKERS; i++){
+            Thread.ofVirtual().name("lobby-fast-path-"+i).start(fastPath);
+        }
+        //A listener that was asked for but can not bind stops the server, rather than leaving its clients without one
+        if(Constants.ACTION_CHANNEL_ENABLED){
+            int port = Constants.actionChannelPort(Constants.SHARD_INDEX);
+            try {
+                ActionChannelServer actionChannel = new ActionChannelServer(rep, port);
+                Thread.ofVirtual().name("action-channel").start(actionChannel);
+                System.out.println("Binary action channel listening on port "+port);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not start the binary action channel on port "+port, e);
+            }
+        }
+        if(Constants.LOBBY_SERVER_ENABLED){
+            int port = Constants.lobbyServerPort(Constants.SHARD_INDEX);
+            try {
+                NioLobbyServer lobbyServer = new NioLobbyServer(rep, space1, port, NioLobbyServer.DEFAULT_EVENT_LOOPS);
+                lobbyServer.start();
+                System.out.println("NIO lobby server listening on port "+port);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not start the NIO lobby server on port "+port, e);
+            }
+        }
+        //Only advertised once everything it serves is up
+        if(Constants.LOBBY_DIRECTORY_URI != null){
+            try {
+                Space directory = new RemoteSpace(URIUtil.getDirectoryURI(Constants.LOBBY_DIRECTORY_URI));
+                JSpaceLobbyDirectory.register(directory, Constants.SHARD_INDEX, Constants.NR_OF_SHARDS, Constants.REMOTE_PUBLIC_URI);
+                System.out.println("Registered as shard "+Constants.SHARD_INDEX+" of "+Constants.NR_OF_SHARDS);
+            } catch (IOException | InterruptedException e) {
+                throw new RuntimeException("Could not register with the lobby directory", e);
+            }
+        }
+
+        while(true){
+            try {
+                Object[] lobbyInstruction = space1.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("CREATE"));
+                int lobbyID = (int) lobbyInstruction[0];
+                System.out.println("creating lobby with id: "+lobbyID);
+                int nrOfPlayers = (int) lobbyInstruction[1];
+                rep.add(lobbyID+"sync", new RandomSpace());
+                rep.add(lobbyID+"rawAction", new RawActionInbox());
+                rep.add(lobbyID+"cleanAction", new ActionStreamSpace());
+                rep.add(lobbyID+"stateHash", new QueueSpace());
+                Lobby lobby = new Lobby(rep, nrOfPlayers, lobbyID, System.currentTimeMillis());
+                space1.put(lobbyID, nrOfPlayers, "OK");
+                lobby.start();
+                lobbyRegistry.addLobby(lobby);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }
+
+    }
+}
\ No newline at end of file
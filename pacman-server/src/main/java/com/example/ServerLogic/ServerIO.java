@@ -4,10 +4,10 @@ import java.util.Scanner;
 
 public class ServerIO implements Runnable{
 
-    LobbyCleaner lobbyCleaner;
+    LobbyRegistry lobbyRegistry;
 
-    public ServerIO(LobbyCleaner lobbyCleaner){
-        this.lobbyCleaner = lobbyCleaner;
+    public ServerIO(LobbyRegistry lobbyRegistry){
+        this.lobbyRegistry = lobbyRegistry;
     }
     
     @Override
@@ -25,16 +25,16 @@ public class ServerIO implements Runnable{
                 help();
                 break;
             case "show":
-                lobbyCleaner.showActiveLobbys();
+                lobbyRegistry.showActiveLobbys();
                 break;
             case "s":
-                lobbyCleaner.showActiveLobbys();
+                lobbyRegistry.showActiveLobbys();
                 break;
             case "close":
-                lobbyCleaner.closeAllLobbys();
+                lobbyRegistry.closeAllLobbys();
                 break;
             case "c":
-                lobbyCleaner.closeAllLobbys();
+                lobbyRegistry.closeAllLobbys();
                 break;
             default:
                 invalidIndput();
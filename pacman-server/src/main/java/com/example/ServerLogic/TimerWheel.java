@@ -0,0 +1,124 @@
+package com.example.ServerLogic;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+//Hashed timer wheel, a ring of slots holding timeouts and a hand that moves one slot per tick
+//Scheduling and cancelling are O(1) and a tick only looks at the timeouts in one slot,
+//so keeping a deadline for every lobby costs the same with a thousand lobbies as with one
+//Timeouts fire on the wheel's thread up to one tick late, so tasks should hand anything slow to another thread
+public class TimerWheel implements Runnable {
+
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        //A cancelled timeout stays in its slot until the hand passes it, but never fires
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickNanos;
+    private final List<List<Timeout>> slots;
+    private final LongSupplier nanoTime;
+    //Tick n is due at startNanos + n * tickNanos
+    private final long startNanos;
+    //Guarded by this, the number of ticks the hand has made
+    private long tick;
+    private volatile boolean running = true;
+    //Only touched by the thread stepping the wheel
+    private final List<Timeout> due = new ArrayList<>();
+
+    public TimerWheel(long tickMillis, int nrOfSlots) {
+        this(tickMillis, nrOfSlots, System::nanoTime);
+    }
+
+    //Takes the clock from nanoTime, so tests can step the wheel by hand
+    TimerWheel(long tickMillis, int nrOfSlots, LongSupplier nanoTime) {
+        if (tickMillis <= 0 || nrOfSlots <= 0) {
+            throw new IllegalArgumentException("Tick and number of slots must be positive: " + tickMillis + ", " + nrOfSlots);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+        this.slots = new ArrayList<>(nrOfSlots);
+        for (int i = 0; i < nrOfSlots; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    //Runs the task once delayMillis have passed, on the first tick at or after that
+    //The deadline counts from now rather than from the hand, which may be most of a tick behind
+    public synchronized Timeout schedule(long delayMillis, Runnable task) {
+        long dueNanos = nanoTime.getAsLong() - startNanos + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        long deadlineTick = Math.max(tick + 1, (dueNanos + tickNanos - 1) / tickNanos);
+        Timeout timeout = new Timeout(task, deadlineTick);
+        slots.get((int) (timeout.deadlineTick % slots.size())).add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            long sleepNanos = startNanos + (tick() + 1) * tickNanos - nanoTime.getAsLong();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            step();
+        }
+    }
+
+    //Moves the hand one tick and runs the timeouts that are due, run calls it on every tick boundary
+    void step() {
+        advance(due);
+        for (Timeout timeout : due) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        due.clear();
+    }
+
+    //Moves the hand one slot and takes out the timeouts that are due, timeouts for later rounds stay
+    private synchronized void advance(List<Timeout> due) {
+        tick++;
+        Iterator<Timeout> timeouts = slots.get((int) (tick % slots.size())).iterator();
+        while (timeouts.hasNext()) {
+            Timeout timeout = timeouts.next();
+            if (timeout.cancelled) {
+                timeouts.remove();
+            } else if (timeout.deadlineTick <= tick) {
+                timeouts.remove();
+                due.add(timeout);
+            }
+        }
+    }
+
+    private synchronized long tick() {
+        return tick;
+    }
+
+    public void stop() {
+        running = false;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.GameLogic.ActionCodec;
+import com.example.model.Action;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Binary Action Channel Server Tests")
+@Timeout(5)
+public class ActionChannelServerTest {
+
+    private final SpaceRepository rep = new SpaceRepository();
+    private final RawActionInbox rawActions = new RawActionInbox();
+    private final ActionStreamSpace cleanActions = new ActionStreamSpace();
+    private ActionChannelServer server;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        rep.add("7rawAction", rawActions);
+        rep.add("7cleanAction", cleanActions);
+        server = new ActionChannelServer(rep, 0);
+        Thread.ofVirtual().start(server);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    private Socket connect(int lobbyID, int from) throws Exception {
+        Socket socket = new Socket("127.0.0.1", server.getPort());
+        OutputStream out = socket.getOutputStream();
+        out.write(ActionCodec.CHANNEL_VERSION);
+        ActionCodec.writeVarint(lobbyID, out);
+        ActionCodec.writeVarint(from, out);
+        out.flush();
+        return socket;
+    }
+
+    @Test
+    @DisplayName("Raw actions written to the channel should arrive in the lobby's inbox")
+    public void testRawActionsReachInbox() throws Exception {
+        try (Socket socket = connect(7, 0)) {
+            OutputStream out = socket.getOutputStream();
+            ActionCodec codec = ActionCodec.raw();
+            codec.write(new Action(1, 20, 3), out);
+            codec.write(new Action(1, 22, 4), out);
+            out.flush();
+
+            List<Action> drained = new ArrayList<>();
+            while (drained.size() < 2) {
+                rawActions.drainTo(drained);
+            }
+            assertEquals(List.of(20, 22), drained.stream().map(Action::clock).toList());
+            assertEquals(List.of(3, 4), drained.stream().map(Action::getMove).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Clean actions should be streamed from the requested index, including ones put later")
+    public void testCleanActionsStreamFromIndex() throws Exception {
+        cleanActions.put(0, 5, 1, 0);
+        cleanActions.put(1, 6, 2, 1);
+        cleanActions.put(0, 8, 3, 2);
+
+        try (Socket socket = connect(7, 1)) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            ActionCodec codec = ActionCodec.clean(1);
+            Action first = codec.read(in);
+            Action second = codec.read(in);
+            assertEquals(1, first.getIndex());
+            assertEquals(6, first.clock());
+            assertEquals(2, second.getIndex());
+            assertEquals(8, second.clock());
+
+            cleanActions.put(1, 9, 4, 3);
+            Action later = codec.read(in);
+            assertEquals(3, later.getIndex());
+            assertEquals(9, later.clock());
+            assertEquals(4, later.getMove());
+        }
+    }
+
+    @Test
+    @DisplayName("A connection for an unknown lobby should be closed")
+    public void testUnknownLobbyClosed() throws Exception {
+        try (Socket socket = connect(8, 0)) {
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    @DisplayName("The connection should be closed after the last clean action once the lobby stops")
+    public void testClosedWhenLobbyStops() throws Exception {
+        cleanActions.put(0, 5, 1, 0);
+
+        try (Socket socket = connect(7, 0)) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            assertEquals(0, ActionCodec.clean(0).read(in).getIndex());
+            cleanActions.close();
+            assertEquals(-1, in.read());
+        }
+    }
+}
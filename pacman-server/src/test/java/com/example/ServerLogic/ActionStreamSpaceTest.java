@@ -0,0 +1,178 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.GameLogic.ActionUtil;
+import com.example.model.Action;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Indexed Clean Action Store Tests")
+@Timeout(2)
+public class ActionStreamSpaceTest {
+
+    private ActionStreamSpace space;
+
+    @BeforeEach
+    public void setUp() throws InterruptedException {
+        space = new ActionStreamSpace();
+        space.put(0, 5, 2, 0);
+        space.put(1, 5, 3, 1);
+        space.put(0, 9, 4, 2);
+    }
+
+    private Object[] queryFrom(int index) throws InterruptedException {
+        return space.query(new ActualField(ActionUtil.BATCH_FROM), new ActualField(index), new FormalField(String.class));
+    }
+
+    @Test
+    @DisplayName("A query from an index should return every later action in one batch")
+    public void testBatchFromIndex() throws InterruptedException {
+        List<Action> actions = ActionUtil.decodeBatch((String) queryFrom(1)[2], 1);
+
+        assertEquals(2, actions.size());
+        assertEquals(1, actions.getFirst().getPlayerId());
+        assertEquals(3, actions.getFirst().getMove());
+        assertEquals(1, actions.getFirst().getIndex());
+        assertEquals(9, actions.get(1).clock());
+        assertEquals(2, actions.get(1).getIndex());
+    }
+
+    @Test
+    @DisplayName("A query past the last action should wait for the next one")
+    public void testBlocksUntilAvailable() throws Exception {
+        assertNull(space.queryp(new ActualField(ActionUtil.BATCH_FROM), new ActualField(3), new FormalField(String.class)));
+
+        CompletableFuture<Object[]> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queryFrom(3);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        space.put(1, 12, 1, 3);
+
+        Object[] batch = pending.get(1, TimeUnit.SECONDS);
+        assertEquals("1,12,1", batch[2]);
+    }
+
+    @Test
+    @DisplayName("Per action queries and the ledger should keep working")
+    public void testPlainTuples() throws InterruptedException {
+        Object[] t = space.query(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new ActualField(2));
+        assertNotNull(t);
+        assertEquals(4, t[2]);
+        assertEquals(3, space.queryAll(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class)).size());
+    }
+
+    @Test
+    @DisplayName("Encoding and decoding a batch should keep every action")
+    public void testBatchRoundTrip() {
+        List<Action> actions = List.of(new Action(3, 100, 4, 7), new Action(0, -1, 1, 8));
+        List<Action> decoded = ActionUtil.decodeBatch(ActionUtil.encodeBatch(actions), 7);
+
+        assertEquals(actions.size(), decoded.size());
+        for (int i = 0; i < actions.size(); i++) {
+            assertEquals(actions.get(i).getPlayerId(), decoded.get(i).getPlayerId());
+            assertEquals(actions.get(i).clock(), decoded.get(i).clock());
+            assertEquals(actions.get(i).getMove(), decoded.get(i).getMove());
+            assertEquals(actions.get(i).getIndex(), decoded.get(i).getIndex());
+        }
+        assertEquals(0, ActionUtil.decodeBatch("", 0).size());
+    }
+
+    @Test
+    @DisplayName("A query for a future index should wake up when that index is put")
+    public void testWaitsForIndex() throws Exception {
+        CompletableFuture<Object[]> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return space.query(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new ActualField(4));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        space.put(1, 12, 1, 3);
+        space.put(2, 13, 2, 4);
+
+        assertEquals(2, pending.get(1, TimeUnit.SECONDS)[0]);
+        assertEquals(5, space.size());
+    }
+
+    @Test
+    @DisplayName("Clean actions should only be appended in index order")
+    public void testAppendOnly() {
+        assertThrows(IllegalArgumentException.class, () -> space.put(0, 20, 1, 7));
+        assertThrows(IllegalArgumentException.class, () -> space.put(0, 20, 1));
+        assertEquals(3, space.size());
+    }
+
+    @Test
+    @DisplayName("A taken clean action should stop matching templates but stay in the stream")
+    public void testTake() throws InterruptedException {
+        Object[] taken = space.getp(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new ActualField(1));
+        assertEquals(1, taken[0]);
+        assertNull(space.queryp(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new ActualField(1)));
+        assertEquals(2, space.size());
+
+        List<Object[]> player0 = space.getAll(new ActualField(0), new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class));
+        assertEquals(List.of(0, 2), player0.stream().map(t -> t[3]).toList());
+        assertEquals(0, space.size());
+        assertNull(space.getp(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class)));
+
+        assertEquals(3, ActionUtil.decodeBatch((String) queryFrom(0)[2], 0).size(), "Readers following the stream should still see every action");
+    }
+
+    @Test
+    @DisplayName("A get should wait for a matching clean action and take it")
+    public void testGetWaits() throws Exception {
+        CompletableFuture<Object[]> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return space.get(new ActualField(2), new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        space.put(2, 13, 2, 3);
+
+        assertEquals(3, pending.get(1, TimeUnit.SECONDS)[3]);
+        assertEquals(3, space.size());
+    }
+
+    @Test
+    @DisplayName("Closing the space should end streams once they have every action, and wake waiting readers")
+    public void testCloseEndsStreams() throws Exception {
+        CompletableFuture<Integer> stream = CompletableFuture.supplyAsync(() -> {
+            try {
+                return space.awaitFrom(3, new ArrayList<>());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        CompletableFuture<Object[]> query = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queryFrom(5);
+            } catch (InterruptedException e) {
+                return null;
+            }
+        });
+        Thread.sleep(50);
+        space.close();
+
+        assertEquals(-1, (int) stream.get(1, TimeUnit.SECONDS));
+        assertNull(query.get(1, TimeUnit.SECONDS));
+        List<Action> rest = new ArrayList<>();
+        assertEquals(2, space.awaitFrom(1, rest), "Actions already put are still handed out");
+        assertEquals(-1, space.awaitFrom(3, rest));
+    }
+}
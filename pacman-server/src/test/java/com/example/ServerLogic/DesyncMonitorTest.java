@@ -0,0 +1,73 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Server Desync Monitor Tests")
+@Timeout(1)
+public class DesyncMonitorTest {
+
+    @Test
+    @DisplayName("Matching hashes from every player should not flag a desync")
+    public void testAgreeingClients() {
+        DesyncMonitor monitor = new DesyncMonitor(new SpaceRepository(), 0, 3);
+        for (int clock = 0; clock < 100; clock += 20) {
+            for (int p = 0; p < 3; p++) {
+                assertFalse(monitor.report(p, clock, clock * 31L));
+            }
+        }
+
+        assertFalse(monitor.isDesynced());
+        assertEquals(-1, monitor.getFirstDivergentClock());
+    }
+
+    @Test
+    @DisplayName("The first tick with different hashes should be flagged")
+    public void testFirstDivergentTick() {
+        DesyncMonitor monitor = new DesyncMonitor(new SpaceRepository(), 0, 2);
+        monitor.report(0, 20, 1L);
+        monitor.report(1, 20, 1L);
+        monitor.report(0, 40, 2L);
+        monitor.report(0, 60, 3L);
+
+        assertTrue(monitor.report(1, 60, 99L));
+        assertEquals(60, monitor.getFirstDivergentClock());
+
+        //A client that reports late can still move the first divergent tick back
+        assertTrue(monitor.report(1, 40, 98L));
+        assertEquals(40, monitor.getFirstDivergentClock());
+        assertTrue(monitor.isDesynced());
+    }
+
+    @Test
+    @DisplayName("A single player lobby can never desync")
+    public void testSinglePlayer() {
+        DesyncMonitor monitor = new DesyncMonitor(new SpaceRepository(), 0, 1);
+
+        assertFalse(monitor.report(0, 20, 1L));
+        assertFalse(monitor.report(0, 20, 2L));
+        assertFalse(monitor.isDesynced());
+    }
+
+    @Test
+    @DisplayName("Ticks a player never reports should be dropped once the others are far enough ahead")
+    public void testSilentPlayerDoesNotPileUp() {
+        DesyncMonitor monitor = new DesyncMonitor(new SpaceRepository(), 0, 2);
+        for (int clock = 0; clock < 2000; clock += 20) {
+            monitor.report(0, clock, clock);
+        }
+
+        assertTrue(monitor.pendingTicks() <= DesyncMonitor.REPORT_WINDOW / 20 + 1);
+        //A report for a tick that was dropped is ignored rather than waiting again
+        assertFalse(monitor.report(1, 0, 99L));
+        assertFalse(monitor.isDesynced());
+        //Recent ticks are still compared
+        assertTrue(monitor.report(1, 1980, 99L));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.GameLogic.GameController;
+import com.example.model.Action;
+import com.example.model.ActionList;
+import com.example.model.Constants;
+import com.example.model.GameState;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Server-Side Ledger Verification Tests")
+@Timeout(5)
+public class LedgerVerifierTest {
+
+    private LedgerVerifier verifier;
+
+    @BeforeEach
+    public void setUp() {
+        verifier = new LedgerVerifier(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        verifier.stop();
+    }
+
+    @Test
+    @DisplayName("Replaying a ledger should give the same result as the client simulation")
+    public void testMatchesClientSimulation() {
+        List<Action> actions = scriptedLedger(2, 300);
+
+        Constants.cleanActions = new ActionList();
+        actions.forEach(Constants.cleanActions::addAction);
+        GameController controller = new GameController();
+        GameState expected = controller.updateGameStateFor(controller.initializeGameState(2), 300);
+
+        GameDigest digest = verifier.verify(new LedgerVerifier.Ledger(7, 2, actions, 300));
+
+        assertEquals(7, digest.lobbyID());
+        assertEquals(300, digest.clock());
+        assertEquals(expected.players().get(0).getPoints(), (int) digest.points().get(0));
+        assertEquals(expected.players().get(1).getPoints(), (int) digest.points().get(1));
+        assertEquals(expected.winner() == null ? -1 : expected.winner().getId(), digest.winnerId());
+    }
+
+    @Test
+    @DisplayName("Verifying many lobbies at once should match verifying them one by one")
+    public void testVerifyAllMatchesSequential() {
+        List<LedgerVerifier.Ledger> ledgers = new ArrayList<>();
+        for (int lobby = 0; lobby < 12; lobby++) {
+            int players = 1 + lobby % 4;
+            ledgers.add(new LedgerVerifier.Ledger(lobby, players, scriptedLedger(players, 200 + lobby * 10), 200 + lobby * 10));
+        }
+
+        List<GameDigest> digests = verifier.verifyAll(ledgers);
+
+        assertEquals(ledgers.size(), digests.size());
+        for (int i = 0; i < ledgers.size(); i++) {
+            assertEquals(verifier.verify(ledgers.get(i)), digests.get(i), "Digest of lobby " + i + " should not depend on the worker");
+        }
+    }
+
+    @Test
+    @DisplayName("An empty ledger should replay to the end clock without a winner")
+    public void testEmptyLedger() {
+        GameDigest digest = verifier.verify(new LedgerVerifier.Ledger(1, 2, List.of(), 50));
+
+        assertEquals(50, digest.clock());
+        assertFalse(digest.finished());
+        assertEquals(2, digest.points().size());
+    }
+
+    @Test
+    @DisplayName("Verifier must have at least one worker")
+    public void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> new LedgerVerifier(0));
+    }
+
+    //Every player turns every 10 ticks, indexed the way the server cleans actions
+    private List<Action> scriptedLedger(int players, int ticks) {
+        List<Action> actions = new ArrayList<>();
+        int index = 0;
+        for (int clock = 0; clock < ticks; clock += 10) {
+            for (int p = 0; p < players; p++) {
+                actions.add(new Action(p, clock, 1 + (clock / 10 + p) % 4, index++));
+            }
+        }
+        return actions;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.QueueSpace;
+import org.jspace.RandomSpace;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Lobby Fast Path Tests")
+@Timeout(5)
+public class LobbyFastPathTest {
+
+    private final SpaceRepository rep = new SpaceRepository();
+    private final Space space1 = new RandomSpace();
+    private final List<Lobby> lobbys = new CopyOnWriteArrayList<>();
+    private Thread creator;
+    private Thread fastPath;
+
+    //Sets lobbies up the way ServerController does
+    @BeforeEach
+    public void startServer() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            space1.put(i, 0, "FREE");
+        }
+        creator = Thread.ofVirtual().start(() -> {
+            try {
+                while (true) {
+                    Object[] t = space1.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("CREATE"));
+                    int lobbyID = (int) t[0];
+                    int nrOfPlayers = (int) t[1];
+                    rep.add(lobbyID+"sync", new RandomSpace());
+                    rep.add(lobbyID+"rawAction", new RawActionInbox());
+                    rep.add(lobbyID+"cleanAction", new ActionStreamSpace());
+                    rep.add(lobbyID+"stateHash", new QueueSpace());
+                    Lobby lobby = new Lobby(rep, nrOfPlayers, lobbyID, System.currentTimeMillis());
+                    lobbys.add(lobby);
+                    space1.put(lobbyID, nrOfPlayers, "OK");
+                    lobby.start();
+                }
+            } catch (InterruptedException e) {
+                //Test over
+            }
+        });
+        fastPath = Thread.ofVirtual().start(new LobbyFastPath(rep, space1));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        fastPath.interrupt();
+        creator.interrupt();
+        lobbys.forEach(Lobby::stop);
+    }
+
+    private Object[] request(String requestID, int nrOfPlayers) throws InterruptedException {
+        space1.put(requestID, nrOfPlayers, "CREATE_JOIN");
+        return space1.get(new ActualField(requestID), new FormalField(Integer.class), new FormalField(Integer.class),
+            new FormalField(Integer.class), new ActualField("JOINED"));
+    }
+
+    @Test
+    @DisplayName("One request should create a lobby and hand back its id and a player id in it")
+    public void testCreateAndJoin() throws InterruptedException {
+        Object[] reply = request("a", 2);
+        int lobbyID = (int) reply[1];
+        int playerID = (int) reply[2];
+        assertEquals(2, (int) reply[3]);
+        assertNull(space1.queryp(new ActualField(lobbyID), new ActualField(0), new ActualField("FREE")), "The lobby should be taken");
+
+        //The other player id is left for the next player to join
+        Object[] other = rep.get(lobbyID+"sync").get(new FormalField(Integer.class), new ActualField(2), new ActualField("PLAYERID"));
+        assertNotEquals(playerID, (int) other[0]);
+    }
+
+    @Test
+    @DisplayName("Requests at the same time should each get their own lobby")
+    public void testConcurrentRequests() throws Exception {
+        Thread[] clients = new Thread[3];
+        int[] lobbyIDs = new int[3];
+        for (int i = 0; i < clients.length; i++) {
+            int client = i;
+            clients[i] = Thread.ofVirtual().start(() -> {
+                try {
+                    lobbyIDs[client] = (int) request("client-" + client, 1)[1];
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        assertEquals(3, Arrays.stream(lobbyIDs).distinct().count());
+    }
+
+    @Test
+    @DisplayName("createAndJoin should do the whole handshake next to the spaces")
+    public void testCreateAndJoinDirect() throws InterruptedException {
+        int[] t = LobbyFastPath.createAndJoin(rep, space1, 1);
+        assertEquals(0, t[1]);
+        assertEquals(1, t[2]);
+        assertEquals(t[0], lobbys.getFirst().getLobbyID());
+    }
+}
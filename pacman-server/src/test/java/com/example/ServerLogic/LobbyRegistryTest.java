@@ -0,0 +1,101 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.model.Constants;
+import org.jspace.ActualField;
+import org.jspace.QueueSpace;
+import org.jspace.RandomSpace;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Lobby Registry Tests")
+@Timeout(5)
+public class LobbyRegistryTest {
+
+    private final SpaceRepository rep = new SpaceRepository();
+    private final Space space1 = new RandomSpace();
+    private TimerWheel timers;
+    private LobbyRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        timers = new TimerWheel(10, 16);
+        Thread.ofVirtual().start(timers);
+        registry = new LobbyRegistry(space1, new LedgerVerifier(), timers);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.closeAllLobbys();
+        registry.stop();
+        timers.stop();
+    }
+
+    private Lobby open(int lobbyID, long timeOfCreation) {
+        rep.add(lobbyID+"sync", new RandomSpace());
+        rep.add(lobbyID+"rawAction", new RawActionInbox());
+        rep.add(lobbyID+"cleanAction", new ActionStreamSpace());
+        rep.add(lobbyID+"stateHash", new QueueSpace());
+        Lobby lobby = new Lobby(rep, 2, lobbyID, timeOfCreation);
+        lobby.start();
+        registry.addLobby(lobby);
+        return lobby;
+    }
+
+    @Test
+    @DisplayName("A player quitting should close the lobby and free its id straight away")
+    public void testQuitFreesLobby() throws InterruptedException {
+        Lobby lobby = open(3, System.currentTimeMillis());
+        assertTrue(registry.contains(3));
+
+        rep.get("3sync").put(1, 2, "QUIT");
+        assertNotNull(space1.get(new ActualField(3), new ActualField(0), new ActualField("FREE")));
+        assertFalse(registry.contains(3));
+        assertTrue(lobby.awaitStopped(1000));
+    }
+
+    @Test
+    @DisplayName("A lobby should be closed and freed once its TTL runs out")
+    public void testTtlFreesLobby() throws InterruptedException {
+        Lobby old = open(4, System.currentTimeMillis() - Constants.LOBBY_TTL + 50);
+        open(5, System.currentTimeMillis());
+
+        assertNotNull(space1.get(new ActualField(4), new ActualField(0), new ActualField("FREE")));
+        assertFalse(registry.contains(4));
+        assertTrue(registry.contains(5));
+        assertTrue(old.awaitStopped(1000));
+    }
+
+    @Test
+    @DisplayName("A lobby closed for two reasons at once should only be freed once")
+    public void testClosedOnce() throws InterruptedException {
+        open(6, System.currentTimeMillis() - Constants.LOBBY_TTL + 20);
+        rep.get("6sync").put(0, 2, "QUIT");
+
+        assertNotNull(space1.get(new ActualField(6), new ActualField(0), new ActualField("FREE")));
+        Thread.sleep(100);
+        assertEquals(0, space1.queryAll(new ActualField(6), new ActualField(0), new ActualField("FREE")).size());
+    }
+
+    @Test
+    @DisplayName("Closing all lobbies should free every id")
+    public void testCloseAll() throws InterruptedException {
+        open(7, System.currentTimeMillis());
+        open(8, System.currentTimeMillis());
+        assertEquals(2, registry.size());
+
+        registry.closeAllLobbys();
+        assertEquals(0, registry.size());
+        assertEquals(1, space1.queryAll(new ActualField(7), new ActualField(0), new ActualField("FREE")).size());
+        assertEquals(1, space1.queryAll(new ActualField(8), new ActualField(0), new ActualField("FREE")).size());
+    }
+}
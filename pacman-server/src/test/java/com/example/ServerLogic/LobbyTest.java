@@ -0,0 +1,67 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.QueueSpace;
+import org.jspace.RandomSpace;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Server Lobby Lifecycle Tests")
+@Timeout(3)
+public class LobbyTest {
+
+    private static final int LOBBY_ID = 7;
+
+    private SpaceRepository rep;
+
+    @BeforeEach
+    public void setUp() {
+        rep = new SpaceRepository();
+        rep.add(LOBBY_ID+"sync", new RandomSpace());
+        rep.add(LOBBY_ID+"rawAction", new RawActionInbox());
+        rep.add(LOBBY_ID+"cleanAction", new ActionStreamSpace());
+        rep.add(LOBBY_ID+"stateHash", new QueueSpace());
+    }
+
+    @Test
+    @DisplayName("A started lobby should hand out player ids, clean actions and start the game")
+    public void testLobbyRuns() throws InterruptedException {
+        Lobby lobby = new Lobby(rep, 2, LOBBY_ID, System.currentTimeMillis());
+        lobby.start();
+        Space sync = rep.get(LOBBY_ID+"sync");
+
+        for (int i = 0; i < 2; i++) {
+            Object[] t = sync.get(new FormalField(Integer.class), new ActualField(2), new ActualField("PLAYERID"));
+            sync.put(t[0], 2, "OK");
+        }
+        assertNotNull(sync.get(new ActualField(0), new ActualField(2), new ActualField("START")));
+
+        rep.get(LOBBY_ID+"rawAction").put(1, 3, 4);
+        Object[] clean = rep.get(LOBBY_ID+"cleanAction").query(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new ActualField(0));
+        assertEquals(1, clean[0]);
+
+        lobby.stop();
+        assertTrue(lobby.awaitStopped(1000));
+    }
+
+    @Test
+    @DisplayName("Stopping a lobby nobody joined should cancel all of its tasks")
+    public void testStopCancelsTasks() throws InterruptedException {
+        Lobby lobby = new Lobby(rep, 4, LOBBY_ID, System.currentTimeMillis());
+        lobby.start();
+        assertFalse(lobby.awaitStopped(50));
+
+        lobby.stop();
+        assertTrue(lobby.awaitStopped(1000));
+    }
+}
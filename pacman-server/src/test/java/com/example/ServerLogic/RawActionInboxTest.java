@@ -0,0 +1,132 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.model.Action;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Lock-Free Raw Action Inbox Tests")
+@Timeout(5)
+public class RawActionInboxTest {
+
+    @Test
+    @DisplayName("Draining should return every pending action in arrival order")
+    public void testDrainInOrder() throws InterruptedException {
+        RawActionInbox inbox = new RawActionInbox();
+        inbox.put(0, 5, 1);
+        inbox.put(1, 3, 2);
+        inbox.put(0, 6, 4);
+        assertEquals(3, inbox.size());
+
+        List<Action> drained = new ArrayList<>();
+        assertEquals(3, inbox.drainTo(drained));
+        assertEquals(List.of(5, 3, 6), drained.stream().map(Action::clock).toList());
+        assertEquals(0, inbox.size());
+    }
+
+    @Test
+    @DisplayName("Actions from concurrent players should all arrive, each player's in order")
+    public void testConcurrentProducers() throws Exception {
+        RawActionInbox inbox = new RawActionInbox();
+        int players = 4;
+        int perPlayer = 20000;
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            int player = p;
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int clock = 0; clock < perPlayer; clock++) {
+                    inbox.put(player, clock, 1);
+                }
+            }));
+        }
+
+        int[] lastClock = {-1, -1, -1, -1};
+        List<Action> drained = new ArrayList<>();
+        int received = 0;
+        while (received < players * perPlayer) {
+            received += inbox.drainTo(drained);
+            for (Action action : drained) {
+                assertEquals(lastClock[action.getPlayerId()] + 1, action.clock());
+                lastClock[action.getPlayerId()] = action.clock();
+            }
+            drained.clear();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(0, inbox.size());
+    }
+
+    @Test
+    @DisplayName("Draining an empty inbox should wait for the next action and stop on interrupt")
+    public void testBlockingDrain() throws Exception {
+        RawActionInbox inbox = new RawActionInbox();
+        List<Action> drained = new ArrayList<>();
+        CompletableFuture<Integer> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return inbox.drainTo(drained);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertFalse(pending.isDone());
+        inbox.put(2, 9, 3);
+        assertEquals(1, (int) pending.get(1, TimeUnit.SECONDS));
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> inbox.drainTo(new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class, () -> inbox.put(1, 2));
+    }
+
+    @Test
+    @DisplayName("Template reads should see arrived actions, and draining should hand out what they leave")
+    public void testTemplateReads() throws InterruptedException {
+        RawActionInbox inbox = new RawActionInbox();
+        inbox.put(0, 5, 1);
+        inbox.put(1, 3, 2);
+        inbox.put(0, 6, 4);
+
+        assertEquals(List.of(5, 6), inbox.queryAll(new ActualField(0), new FormalField(Integer.class), new FormalField(Integer.class))
+            .stream().map(t -> t[1]).toList());
+        Object[] taken = inbox.getp(new ActualField(1), new FormalField(Integer.class), new FormalField(Integer.class));
+        assertEquals(3, taken[1]);
+        assertNull(inbox.queryp(new ActualField(1), new FormalField(Integer.class), new FormalField(Integer.class)));
+        assertEquals(2, inbox.size());
+
+        inbox.put(2, 7, 3);
+        List<Action> drained = new ArrayList<>();
+        assertEquals(3, inbox.drainTo(drained));
+        assertEquals(List.of(5, 6, 7), drained.stream().map(Action::clock).toList());
+        assertEquals(0, inbox.size());
+    }
+
+    @Test
+    @DisplayName("A get should wait for a matching action")
+    public void testBlockingGet() throws Exception {
+        RawActionInbox inbox = new RawActionInbox();
+        CompletableFuture<Object[]> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return inbox.get(new ActualField(2), new FormalField(Integer.class), new FormalField(Integer.class));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        inbox.put(1, 8, 1);
+        inbox.put(2, 9, 3);
+
+        assertEquals(9, pending.get(1, TimeUnit.SECONDS)[1]);
+        assertEquals(1, inbox.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("Timer Wheel Tests")
+@Timeout(3)
+public class TimerWheelTest {
+
+    private TimerWheel wheel;
+
+    @BeforeEach
+    public void startWheel() {
+        wheel = new TimerWheel(5, 8);
+        Thread.ofVirtual().start(wheel);
+    }
+
+    @AfterEach
+    public void stopWheel() {
+        wheel.stop();
+    }
+
+    @Test
+    @DisplayName("Timeouts should fire in deadline order, including ones more than a turn of the wheel away")
+    public void testFiresInOrder() throws InterruptedException {
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        wheel.schedule(120, () -> { fired.add(120); done.countDown(); });
+        wheel.schedule(10, () -> { fired.add(10); done.countDown(); });
+        wheel.schedule(50, () -> { fired.add(50); done.countDown(); });
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(10, 50, 120), fired);
+    }
+
+    @Test
+    @DisplayName("A timeout scheduled late in a tick should not fire before its delay has passed")
+    public void testNotEarly() {
+        AtomicLong now = new AtomicLong();
+        TimerWheel stepped = new TimerWheel(10, 8, now::get);
+        for (int i = 0; i < 9; i++) {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            stepped.step();
+        }
+        //9.7 ticks in, with the hand on tick 9
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(7));
+        AtomicBoolean fired = new AtomicBoolean();
+        stepped.schedule(100, () -> fired.set(true));
+
+        //Due at 197 ms, so tick 19 at 190 ms is too early and tick 20 at 200 ms fires it
+        for (int tick = 10; tick <= 19; tick++) {
+            now.set(TimeUnit.MILLISECONDS.toNanos(tick * 10));
+            stepped.step();
+            assertFalse(fired.get(), "fired at tick " + tick);
+        }
+        now.set(TimeUnit.MILLISECONDS.toNanos(200));
+        stepped.step();
+        assertTrue(fired.get());
+    }
+
+    @Test
+    @DisplayName("A cancelled timeout should never fire")
+    public void testCancel() throws InterruptedException {
+        CountDownLatch cancelledRan = new CountDownLatch(1);
+        CountDownLatch later = new CountDownLatch(1);
+        TimerWheel.Timeout timeout = wheel.schedule(20, cancelledRan::countDown);
+        timeout.cancel();
+        wheel.schedule(60, later::countDown);
+
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertTrue(timeout.isCancelled());
+        assertFalse(cancelledRan.await(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("A wheel without ticks or slots should be rejected")
+    public void testRejectsEmptyWheel() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(5, 0));
+    }
+}
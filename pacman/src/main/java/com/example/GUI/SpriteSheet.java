@@ -93,6 +93,15 @@ public enum SpriteSheet {
         return outputImage;
     }
 
+    public static Color getPlayerColor(int playerId) {
+        return switch (playerId) {
+            case 1 -> Color.rgb(255, 0, 0);
+            case 2 -> Color.rgb(0, 255, 0);
+            case 3 -> Color.rgb(0, 0, 255);
+            default -> Color.rgb(255, 241, 0);
+        };
+    }
+
     public static SpriteSheet getPlayerSheet(Color color) {
         if (color.equals(Color.rgb(255, 241, 0))) return PLAYER_YELLOW;
         if (color.equals(Color.rgb(255, 0, 0))) return PLAYER_RED;
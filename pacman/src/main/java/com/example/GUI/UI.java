@@ -5,7 +5,9 @@ import static com.example.model.Constants.TILE_SIZE;
 
 import com.example.GameLogic.ClientComs.ConnectToLobby;
 import com.example.GameLogic.ClientComs.KeyHandler;
+import com.example.GameLogic.ClientComs.StateHashPublisher;
 import com.example.GameLogic.GameController;
+import com.example.GameLogic.SnapshotHistory;
 import com.example.model.*;
 
 import java.util.Collections;
@@ -31,7 +33,6 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Pair;
 
 import java.util.Comparator;
 import java.util.stream.Collectors;
@@ -45,6 +46,8 @@ public class UI extends Application {
     private final GameController gameController = new GameController();
     private GameState gameState;
     private GameState savedState;
+    private final SnapshotHistory snapshotHistory = new SnapshotHistory();
+    private StateHashPublisher stateHashPublisher;
 
     private GraphicsContext gc;
     private Canvas canvas;
@@ -87,7 +90,7 @@ public class UI extends Application {
         bgGc.setFill(Color.rgb(10, 10, 50));
         bgGc.fillRect(0, 0, Constants.INIT_SCREEN_WIDTH, Constants.INIT_SCREEN_HEIGHT);
 
-        drawRectangle(bgGc, 0, 0, Constants.TILES_WIDE, Constants.TILES_TALL);
+        drawRectangle(bgGc, 0, 0, Constants.INIT_SCREEN_WIDTH / Constants.TILE_SIZE, Constants.INIT_SCREEN_HEIGHT / Constants.TILE_SIZE);
 
         Button joinLobbyButton = createTiledButton("Join Lobby", 10, 3);
 
@@ -337,13 +340,20 @@ public class UI extends Application {
     private void startGame(Stage stage) {
         gameState = gameController.initializeGameState(lobbyHandler.getNrOfPlayers());
         savedState = gameController.deepCopyGameState(gameState);
+        snapshotHistory.clear();
+        snapshotHistory.record(gameState);
 
         final StackPane root = new StackPane();
 
         final Scene scene = new Scene(root, Constants.INIT_SCREEN_WIDTH, Constants.INIT_SCREEN_HEIGHT);
 
         Constants.cleanActions.setPlayerID(lobbyHandler.getPlayerID());
-        keyHandler = new KeyHandler(lobbyHandler.getLobbyID(), lobbyHandler.getPlayerID());
+        if (lobbyHandler.getActionChannel() != null) {
+            keyHandler = new KeyHandler(lobbyHandler.getPlayerID(), lobbyHandler.getActionChannel());
+        } else {
+            keyHandler = new KeyHandler(lobbyHandler.getTransport(), lobbyHandler.getLobbyID(), lobbyHandler.getPlayerID());
+        }
+        stateHashPublisher = new StateHashPublisher(lobbyHandler.getTransport(), lobbyHandler.getLobbyID(), lobbyHandler.getPlayerID());
 
         scene.setOnKeyPressed(e -> keyHandler.move(e.getCode()));
 
@@ -362,12 +372,16 @@ public class UI extends Application {
 
         stage.setOnCloseRequest(event -> {
             lobbyHandler.quit();
+            stateHashPublisher.stop();
+            keyHandler.stop();
             gameAnimator.stop();
             System.exit(0);
         });
 
         quitButton.setOnAction(e -> {
             lobbyHandler.quit();
+            stateHashPublisher.stop();
+            keyHandler.stop();
             gameAnimator.stop();
             stage.close();
             System.exit(0);
@@ -415,13 +429,19 @@ public class UI extends Application {
             }
 
             if (Constants.cleanActions.missedAction(Constants.clock)) {
-                gameState = gameController.updateGameStateFor(savedState, Constants.clock);
+                // Rewind to the tick right before the late action, falling back to savedState if it is older than the history
+                GameState rewindState = snapshotHistory.get(Constants.cleanActions.getMissedActionClock() - 1);
+                if (rewindState == null)
+                    rewindState = savedState;
+                gameState = gameController.updateGameStateFor(rewindState, Constants.clock, snapshotHistory);
             } else {
                 List<Action> ActionOfClock = Constants.cleanActions.getActions(Constants.clock);
                 if (!ActionOfClock.isEmpty())
                     savedState = gameController.deepCopyGameState(gameState);
                 gameState = gameController.updateGameState(gameState, ActionOfClock);
+                snapshotHistory.record(gameState);
             }
+            stateHashPublisher.onTick(gameState.clock(), snapshotHistory);
 
             playSounds();
             Constants.clock++;
@@ -484,7 +504,7 @@ public class UI extends Application {
             Collections.reverse(players);
             gc.setFont(new Font(FONT_FAMILY, 20));
             for (int i = 0; i < players.size(); i++) {
-                gc.setFill(players.get(i).getColor());
+                gc.setFill(SpriteSheet.getPlayerColor(players.get(i).getId()));
                 gc.fillText("Score: " + players.get(i).getPoints(),
                     Constants.INIT_SCREEN_WIDTH/2-padding+40,
                     Constants.INIT_SCREEN_HEIGHT/2-padding+100+i*50
@@ -514,7 +534,8 @@ public class UI extends Application {
                 }
             }
 
-            Pair<Integer, Integer> pos = localPlayer.getPosition().ToGridPosition();
+            int gridX = localPlayer.getPosition().gridX();
+            int gridY = localPlayer.getPosition().gridY();
             int xOffset = 0;
             int yOffset = 0;
             switch (localPlayer.getDirection()) {
@@ -534,18 +555,18 @@ public class UI extends Application {
                     break;
             }
             if (!eatingDot &&
-                gameState.tiles()[Math.floorMod(pos.getValue() + yOffset, Constants.TILES_TALL)][Math.floorMod(pos.getKey() + xOffset, Constants.TILES_WIDE)] == TileType.PAC_DOT) {
+                gameState.tiles().get(Math.floorMod(gridX + xOffset, gameState.width()), Math.floorMod(gridY + yOffset, gameState.height())) == TileType.PAC_DOT) {
                 eatingDot = true;
                 soundEngine.play(Sound.EAT_DOT);
             } else if (eatingDot &&
-                gameState.tiles()[Math.floorMod(pos.getValue() + yOffset, Constants.TILES_TALL)][Math.floorMod(pos.getKey() + xOffset, Constants.TILES_WIDE)] != TileType.PAC_DOT) {
+                gameState.tiles().get(Math.floorMod(gridX + xOffset, gameState.width()), Math.floorMod(gridY + yOffset, gameState.height())) != TileType.PAC_DOT) {
                 eatingDot = false;
                 soundEngine.stop(Sound.EAT_DOT);
             }
         }
 
         private void drawCountdown() {
-            Color playerColor = gameState.players().get(lobbyHandler.getPlayerID()).getColor();
+            Color playerColor = SpriteSheet.getPlayerColor(lobbyHandler.getPlayerID());
             float seconds = -1 * (float) (Constants.clock) / Constants.TARGET_FPS;
 
             gc.setFill(playerColor);
@@ -561,7 +582,7 @@ public class UI extends Application {
         private void drawPoints() {
             List<Player> players = gameState.players();
             for (int i = 0; i < players.size(); i++) {
-                gc.setFill(players.get(i).getColor());
+                gc.setFill(SpriteSheet.getPlayerColor(players.get(i).getId()));
                 gc.setFont(new Font(FONT_FAMILY, 20));
 
                 StringBuilder hearts = new StringBuilder("");
@@ -577,10 +598,10 @@ public class UI extends Application {
         }
 
         private void drawMap() {
-            TileType[][] tiles = gameState.tiles();
-            for (int y = 0; y < tiles.length; y++) {
-                for (int x = 0; x < tiles[0].length; x++) {
-                    switch (tiles[y][x]) {
+            TileGrid tiles = gameState.tiles();
+            for (int y = 0; y < tiles.getHeight(); y++) {
+                for (int x = 0; x < tiles.getWidth(); x++) {
+                    switch (tiles.get(x, y)) {
                         case EMPTY:
                             // gc.setFill(Color.BLACK);
                             // gc.fillRect(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
@@ -666,7 +687,7 @@ public class UI extends Application {
                         default -> tileY + 1;
                     };
 
-                    SpriteSheet playerSheet = SpriteSheet.getPlayerSheet(player.getColor());
+                    SpriteSheet playerSheet = SpriteSheet.getPlayerSheet(SpriteSheet.getPlayerColor(player.getId()));
                     Position playerTilePos = player.getPosition();
 
                     double rsTimer = player.getRespawnTimer();
@@ -762,13 +783,12 @@ public class UI extends Application {
             });
         }
 
-        private boolean isWall(TileType[][] tiles, int y, int x) {
-            return y >= 0 && y < tiles.length && x >= 0 && x < tiles[0].length
-                    && tiles[y][x] == TileType.WALL;
+        private boolean isWall(TileGrid tiles, int y, int x) {
+            return tiles.inBounds(x, y) && tiles.get(x, y) == TileType.WALL;
         }
 
         private void drawWall(int y, int x) {
-            TileType[][] tiles = gameState.tiles();
+            TileGrid tiles = gameState.tiles();
 
             boolean n = isWall(tiles, y - 1, x);
             boolean s = isWall(tiles, y + 1, x);
@@ -0,0 +1,81 @@
+package com.example.GameLogic.ClientComs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.List;
+
+import com.example.GameLogic.ActionCodec;
+import com.example.model.Action;
+import com.example.model.Constants;
+
+//Client end of the binary action transport, used instead of Reader and the raw action space with -Dtransport=binary
+//Raw actions are written to the server as they are made and clean actions are read into the static list of clean actions
+//over the same connection, after a handshake of CHANNEL_VERSION, the lobby id and the first clean action index
+public class ActionChannel implements Runnable {
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final ActionCodec rawCodec = ActionCodec.raw();
+    private volatile boolean running = true;
+
+    public ActionChannel(String host, int port, int lobbyID) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        in = new BufferedInputStream(socket.getInputStream());
+        out = new BufferedOutputStream(socket.getOutputStream());
+
+        //Like Reader, the whole stream of clean actions is read from the first one
+        out.write(ActionCodec.CHANNEL_VERSION);
+        ActionCodec.writeVarint(lobbyID, out);
+        ActionCodec.writeVarint(0, out);
+        out.flush();
+    }
+
+    //Continuesly reads clean actions from the server and updates the static list of clean actions
+    @Override
+    public void run() {
+        ActionCodec codec = ActionCodec.clean(0);
+        try {
+            while (running) {
+                Constants.cleanActions.addAction(codec.read(in));
+            }
+        } catch (EOFException e) {
+            running = false;
+        } catch (IOException e) {
+            if (running) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public void send(Action action) {
+        send(List.of(action));
+    }
+
+    //The actions go out in one flush
+    public synchronized void send(List<Action> actions) {
+        try {
+            for (Action action : actions) {
+                rawCodec.write(action, out);
+            }
+            out.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
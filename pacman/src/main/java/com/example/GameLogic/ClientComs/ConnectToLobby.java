@@ -3,44 +3,39 @@ package com.example.GameLogic.ClientComs;
 import java.io.IOException;
 import java.net.UnknownHostException;
 
-import org.jspace.ActualField;
-import org.jspace.FormalField;
-import org.jspace.RemoteSpace;
-import org.jspace.Space;
-import org.jspace.SpaceRepository;
-
 import com.example.GameLogic.URIUtil;
 import com.example.model.Constants;
 
 public class ConnectToLobby {
 
+    private final LobbyTransport transport;
+
     private int nrOfPlayers;
 
     private int playerID;
 
     private int lobbyID;
 
-    private Space sync;
-
     private Reader reader;
 
-    private Space space1;
+    private ActionChannel actionChannel;
 
     private boolean isLobbyOpen = true;
 
-    public void createLobby(int nrOfPlayers) throws Exception {
-        try {
-            space1 = new RemoteSpace(URIUtil.getSpace1URI(Constants.REMOTE_PUBLIC_URI));
-            lobbyID = (int) space1.get(new FormalField(Integer.class), new ActualField(0), new ActualField("FREE"))[0];
-
-            space1.put(lobbyID, nrOfPlayers, "CREATE");
-            space1.get(new ActualField(lobbyID), new ActualField(nrOfPlayers), new ActualField("OK"));
+    public ConnectToLobby() {
+        this(LobbyTransport.create());
+    }
 
-            sync = new RemoteSpace(URIUtil.getSyncURI(Constants.REMOTE_PUBLIC_URI, lobbyID));
-            Object[] t = sync.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("PLAYERID"));
+    public ConnectToLobby(LobbyTransport transport) {
+        this.transport = transport;
+    }
 
-            playerID = (int) t[0];
-            this.nrOfPlayers = (int) t[1];
+    public void createLobby(int nrOfPlayers) throws Exception {
+        try {
+            LobbyTicket ticket = transport.createAndJoinLobby(nrOfPlayers);
+            lobbyID = ticket.lobbyID();
+            playerID = ticket.playerID();
+            this.nrOfPlayers = ticket.nrOfPlayers();
 
             System.out.println("Created lobby with ID: "+lobbyID);
 
@@ -55,14 +50,13 @@ public class ConnectToLobby {
 
     public void joinLobby(String lobbyID) throws Exception {
         try {
-            space1 = new RemoteSpace(URIUtil.getSpace1URI(Constants.REMOTE_PUBLIC_URI));
-            this.lobbyID = Integer.parseInt(lobbyID);
-
-            sync = new RemoteSpace(URIUtil.getSyncURI(Constants.REMOTE_PUBLIC_URI, this.lobbyID));
-            Object[] t = sync.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("PLAYERID"));
+            int id = Integer.parseInt(lobbyID);
 
-            playerID = (int) t[0];
-            nrOfPlayers = (int) t[1];
+            //Only remembered once joined, a failed join leaves the client outside any lobby
+            int[] t = transport.joinLobby(id);
+            this.lobbyID = id;
+            playerID = t[0];
+            nrOfPlayers = t[1];
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid lobby ID: " + lobbyID);
         } catch (UnknownHostException e) {
@@ -82,11 +76,12 @@ public class ConnectToLobby {
     public boolean isLobbyOpen() {
         if(!isLobbyOpen)return false;
         try {
-            Object[] t = space1.queryp(new ActualField(lobbyID), new ActualField(0), new ActualField("FREE"));
-            if(t != null){
+            if(transport.isLobbyFree(lobbyID)){
                 isLobbyOpen = false;
                 return false;
             }
+        } catch (IOException e) {
+            e.printStackTrace();
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -112,13 +107,21 @@ public class ConnectToLobby {
     public void startGame() {
         try {
 
-            reader = new Reader(lobbyID);
-            Thread t = new Thread(reader);
+            Runnable actionReader;
+            if (Constants.BINARY_TRANSPORT) {
+                actionChannel = new ActionChannel(URIUtil.getHost(transport.serverURI(lobbyID)), Constants.actionChannelPort(transport.shardOf(lobbyID)), lobbyID);
+                actionReader = actionChannel;
+            } else {
+                reader = new Reader(transport, lobbyID);
+                actionReader = reader;
+            }
+            Thread t = new Thread(actionReader);
             t.setDaemon(true);
             t.start();
 
-            sync.put(playerID, nrOfPlayers, "OK");
-            sync.query(new ActualField(0), new ActualField(nrOfPlayers), new ActualField("START"));
+            transport.startGame(lobbyID, playerID, nrOfPlayers);
+        } catch (IOException e) {
+            e.printStackTrace();
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -126,15 +129,29 @@ public class ConnectToLobby {
     }
 
     public void quit() {
-        reader.stop();
+        if (reader != null) {
+            reader.stop();
+        }
+        if (actionChannel != null) {
+            actionChannel.stop();
+        }
         try {
-            sync.put(playerID, nrOfPlayers, "QUIT");
+            transport.quit(lobbyID, playerID, nrOfPlayers);
         } catch (Exception e) {
             return;
         }
     }
 
 
+    public LobbyTransport getTransport() {
+        return transport;
+    }
+
+    //Null unless actions go over the binary transport
+    public ActionChannel getActionChannel() {
+        return actionChannel;
+    }
+
     public int getLobbyID() {
         return lobbyID;
     }
@@ -0,0 +1,111 @@
+package com.example.GameLogic.ClientComs;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.RemoteSpace;
+import org.jspace.Space;
+
+import com.example.GameLogic.ActionUtil;
+import com.example.GameLogic.URIUtil;
+import com.example.model.Action;
+import com.example.model.Constants;
+
+//The lobby protocol as tuples in the server's jSpace gate
+public class JSpaceLobbyTransport implements LobbyTransport {
+
+    private final String baseURI;
+    //Every remote space holds its own connection, so each is opened on first use and kept
+    private final Map<String, Space> spaces = new HashMap<>();
+
+    public JSpaceLobbyTransport() {
+        this(Constants.REMOTE_PUBLIC_URI);
+    }
+
+    public JSpaceLobbyTransport(String baseURI) {
+        this.baseURI = baseURI;
+    }
+
+    private synchronized Space space(String uri) throws IOException {
+        Space space = spaces.get(uri);
+        if (space == null) {
+            space = new RemoteSpace(uri);
+            spaces.put(uri, space);
+        }
+        return space;
+    }
+
+    @Override
+    public int createLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        Space space1 = space(URIUtil.getSpace1URI(baseURI));
+        int lobbyID = (int) space1.get(new FormalField(Integer.class), new ActualField(0), new ActualField("FREE"))[0];
+
+        space1.put(lobbyID, nrOfPlayers, "CREATE");
+        space1.get(new ActualField(lobbyID), new ActualField(nrOfPlayers), new ActualField("OK"));
+        return lobbyID;
+    }
+
+    //One put and one get on the space1 connection already open, the server takes the free id and the player id itself
+    @Override
+    public LobbyTicket createAndJoinLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        Space space1 = space(URIUtil.getSpace1URI(baseURI));
+        String requestID = UUID.randomUUID().toString();
+        space1.put(requestID, nrOfPlayers, "CREATE_JOIN");
+        Object[] t = space1.get(new ActualField(requestID), new FormalField(Integer.class), new FormalField(Integer.class),
+            new FormalField(Integer.class), new ActualField("JOINED"));
+        return new LobbyTicket((int) t[1], (int) t[2], (int) t[3]);
+    }
+
+    @Override
+    public int[] joinLobby(int lobbyID) throws IOException, InterruptedException {
+        Space sync = space(URIUtil.getSyncURI(baseURI, lobbyID));
+        Object[] t = sync.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("PLAYERID"));
+        return new int[] {(int) t[0], (int) t[1]};
+    }
+
+    @Override
+    public boolean isLobbyFree(int lobbyID) throws IOException, InterruptedException {
+        Space space1 = space(URIUtil.getSpace1URI(baseURI));
+        return space1.queryp(new ActualField(lobbyID), new ActualField(0), new ActualField("FREE")) != null;
+    }
+
+    @Override
+    public void startGame(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException {
+        Space sync = space(URIUtil.getSyncURI(baseURI, lobbyID));
+        sync.put(playerID, nrOfPlayers, "OK");
+        sync.query(new ActualField(0), new ActualField(nrOfPlayers), new ActualField("START"));
+    }
+
+    @Override
+    public void quit(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException {
+        space(URIUtil.getSyncURI(baseURI, lobbyID)).put(playerID, nrOfPlayers, "QUIT");
+    }
+
+    @Override
+    public void sendRawAction(int lobbyID, Action action) throws IOException {
+        ActionUtil.registerRawAction(action, space(URIUtil.getRawActionURI(baseURI, lobbyID)));
+    }
+
+    //Each query asks for every action from the next index onward, so a burst of actions arrives in one round trip
+    @Override
+    public List<Action> awaitCleanActions(int lobbyID, int from) throws IOException, InterruptedException {
+        Space cleanActions = space(URIUtil.getCleanActionURI(baseURI, lobbyID));
+        Object[] t = cleanActions.query(new ActualField(ActionUtil.BATCH_FROM), new ActualField(from), new FormalField(String.class));
+        return ActionUtil.decodeBatch((String) t[2], from);
+    }
+
+    @Override
+    public String serverURI(int lobbyID) {
+        return baseURI;
+    }
+
+    @Override
+    public void publishStateHash(int lobbyID, int playerID, int clock, long hash) throws IOException, InterruptedException {
+        space(URIUtil.getStateHashURI(baseURI, lobbyID)).put(playerID, clock, hash);
+    }
+}
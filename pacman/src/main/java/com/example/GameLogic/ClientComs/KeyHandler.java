@@ -1,90 +1,131 @@
 package com.example.GameLogic.ClientComs;
-import static com.example.model.Constants.REMOTE_PUBLIC_URI;
-
 import java.io.IOException;
-import java.net.UnknownHostException;
-import java.util.HashSet;
-import java.util.Set;
-
-import org.jspace.RemoteSpace;
-import org.jspace.Space;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
-import com.example.GameLogic.ActionUtil;
-import com.example.GameLogic.ClientMain;
-import com.example.GameLogic.URIUtil;
 import com.example.model.Action;
 import com.example.model.Constants;
 
 import javafx.scene.input.KeyCode;
 
+//Turns key presses into raw actions and sends them from one virtual thread, in the order they were pressed
+//Presses only go into a bounded queue, so the UI thread never waits on the network, and whatever piles up
+//while a send is under way goes out as one batch with only the last press of each tick kept
 public class KeyHandler{
 
-    private Space rawActions;
+    //Far more presses than a player makes while one batch is sent, once full the oldest press is dropped
+    static final int INPUT_QUEUE_CAPACITY = 64;
+
+    private LobbyTransport transport;
+    private ActionChannel actionChannel;
+    private int lobbyID;
     private int playerID;
+    private final BlockingQueue<Action> inputs = new ArrayBlockingQueue<>(INPUT_QUEUE_CAPACITY);
+    private Thread sender;
 
     public KeyHandler(int lobbyID, int playerID) {
+        this(LobbyTransport.create(), lobbyID, playerID);
+    }
+
+    public KeyHandler(LobbyTransport transport, int lobbyID, int playerID) {
+        this.transport = transport;
+        this.lobbyID = lobbyID;
         this.playerID = playerID;
-        try {
-            this.rawActions = new RemoteSpace(URIUtil.getRawActionURI(Constants.REMOTE_PUBLIC_URI, lobbyID));
-        } catch (UnknownHostException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        startSender();
+    }
+
+    //Sends raw actions over the binary transport instead of the raw action space
+    public KeyHandler(int playerID, ActionChannel actionChannel) {
+        this.playerID = playerID;
+        this.actionChannel = actionChannel;
+        startSender();
+    }
+
+    private void startSender() {
+        sender = Thread.ofVirtual().name("key-handler-" + playerID).start(this::sendInputs);
     }
 
     public void move(KeyCode key) {
         if(key == KeyCode.W || key == KeyCode.UP){
-            Thread t = new Thread(new Runnable() {
-                public void run() {
-                    moveUp();
-                }
-            });
-            t.setDaemon(true);
-            t.start();
+            moveUp();
         };
         if(key == KeyCode.S || key == KeyCode.DOWN){
-            Thread t = new Thread(new Runnable() {
-                public void run() {
-                    moveDown();
-                }
-            });
-            t.setDaemon(true);
-            t.start();
+            moveDown();
         };
         if(key == KeyCode.A || key == KeyCode.LEFT){
-            Thread t = new Thread(new Runnable() {
-                public void run() {
-                    moveLeft();
-                }
-            });
-            t.setDaemon(true);
-            t.start();
+            moveLeft();
         };
         if(key == KeyCode.D || key == KeyCode.RIGHT){
-            Thread t = new Thread(new Runnable() {
-                public void run() {
-                    moveRight();
-                }
-            });
-            t.setDaemon(true);
-            t.start();
+            moveRight();
         };
     }
 
     public void moveUp() {
-        ActionUtil.registerRawAction(new Action(playerID, Constants.clock + Constants.actionOffset, 3), rawActions);
+        press(3);
     }
 
     public void moveDown() {
-        ActionUtil.registerRawAction(new Action(playerID, Constants.clock + Constants.actionOffset, 4), rawActions);
+        press(4);
     }
 
     public void moveLeft() {
-        ActionUtil.registerRawAction(new Action(playerID, Constants.clock + Constants.actionOffset, 1), rawActions);
+        press(1);
     }
 
     public void moveRight() {
-        ActionUtil.registerRawAction(new Action(playerID, Constants.clock + Constants.actionOffset, 2), rawActions);
+        press(2);
+    }
+
+    //The clock is read when the key is pressed, not when the action is sent
+    private void press(int move) {
+        Action action = new Action(playerID, Constants.clock + Constants.actionOffset, move);
+        while (!inputs.offer(action)) {
+            inputs.poll();
+        }
+    }
+
+    private void sendInputs() {
+        List<Action> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(inputs.take());
+                inputs.drainTo(batch);
+                send(coalesce(batch));
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            //Stopped
+        }
+    }
+
+    //Presses are queued in clock order, and of several presses in the same tick only the last one counts
+    static List<Action> coalesce(List<Action> presses) {
+        List<Action> actions = new ArrayList<>(presses.size());
+        for (Action press : presses) {
+            if (!actions.isEmpty() && actions.getLast().clock() == press.clock()) {
+                actions.set(actions.size() - 1, press);
+            } else {
+                actions.add(press);
+            }
+        }
+        return actions;
+    }
+
+    private void send(List<Action> actions) throws InterruptedException {
+        if (actionChannel != null) {
+            actionChannel.send(actions);
+        } else {
+            try {
+                transport.sendRawActions(lobbyID, actions);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public void stop() {
+        sender.interrupt();
     }
 }
@@ -0,0 +1,6 @@
+package com.example.GameLogic.ClientComs;
+
+//A player's place in a new lobby, from one reply of the server
+//The lobby's spaces and listeners are found from the server's URI like those of a joined lobby, so they are not part of it
+public record LobbyTicket(int lobbyID, int playerID, int nrOfPlayers) {
+}
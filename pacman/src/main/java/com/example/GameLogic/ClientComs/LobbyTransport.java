@@ -0,0 +1,80 @@
+package com.example.GameLogic.ClientComs;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.GameLogic.JSpaceLobbyDirectory;
+import com.example.GameLogic.LobbyDirectory;
+import com.example.GameLogic.URIUtil;
+import com.example.model.Action;
+import com.example.model.Constants;
+
+//How a client speaks the lobby protocol with the server, through jSpace remote spaces or the NIO lobby server
+//Each method is one step of the protocol the client used to do by hand with tuples
+public interface LobbyTransport {
+
+    //Takes a free lobby from the pool and waits until the server has set it up, returns its id
+    int createLobby(int nrOfPlayers) throws IOException, InterruptedException;
+
+    //Waits for a player id in the lobby, returns {playerID, nrOfPlayers}
+    int[] joinLobby(int lobbyID) throws IOException, InterruptedException;
+
+    //Creates a lobby and joins it as its first player, transports that can do both in one request override this
+    default LobbyTicket createAndJoinLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        int lobbyID = createLobby(nrOfPlayers);
+        int[] t = joinLobby(lobbyID);
+        return new LobbyTicket(lobbyID, t[0], t[1]);
+    }
+
+    boolean isLobbyFree(int lobbyID) throws IOException, InterruptedException;
+
+    //Tells the lobby the player is ready and waits until every player is
+    void startGame(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException;
+
+    void quit(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException;
+
+    void sendRawAction(int lobbyID, Action action) throws IOException, InterruptedException;
+
+    //Sends the actions in order, transports that can put them on the wire together override this
+    default void sendRawActions(int lobbyID, List<Action> actions) throws IOException, InterruptedException {
+        for (Action action : actions) {
+            sendRawAction(lobbyID, action);
+        }
+    }
+
+    //Blocks until clean action from exists, then returns it and every clean action after it that has arrived
+    List<Action> awaitCleanActions(int lobbyID, int from) throws IOException, InterruptedException;
+
+    void publishStateHash(int lobbyID, int playerID, int clock, long hash) throws IOException, InterruptedException;
+
+    //Gate URI of the server that owns the lobby
+    String serverURI(int lobbyID);
+
+    //Index of the shard that owns the lobby, which decides the ports of its binary and NIO listeners
+    default int shardOf(int lobbyID) {
+        return 0;
+    }
+
+    default void close() {
+    }
+
+    //Run with -Ddirectory=<uri> to find lobbies through the lobby directory of a sharded deployment
+    static LobbyTransport create() {
+        if (Constants.LOBBY_DIRECTORY_URI != null) {
+            try {
+                LobbyDirectory directory = JSpaceLobbyDirectory.connect(Constants.LOBBY_DIRECTORY_URI);
+                return new ShardedLobbyTransport(directory, uri -> forServer(uri, directory.shards().indexOf(uri)));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not reach the lobby directory at " + Constants.LOBBY_DIRECTORY_URI, e);
+            }
+        }
+        return forServer(Constants.REMOTE_PUBLIC_URI, 0);
+    }
+
+    //Run with -Dtransport=nio to talk to the NIO lobby server instead of the jSpace gate
+    static LobbyTransport forServer(String baseURI, int shard) {
+        return Constants.NIO_TRANSPORT
+            ? new NioLobbyTransport(baseURI, URIUtil.getHost(baseURI), Constants.lobbyServerPort(shard))
+            : new JSpaceLobbyTransport(baseURI);
+    }
+}
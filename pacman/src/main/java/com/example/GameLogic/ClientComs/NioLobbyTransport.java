@@ -0,0 +1,261 @@
+package com.example.GameLogic.ClientComs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.example.GameLogic.ActionCodec;
+import com.example.GameLogic.LobbyProtocol;
+import com.example.GameLogic.LobbyProtocol.Frame;
+import com.example.GameLogic.LobbyProtocol.FrameWriter;
+import com.example.GameLogic.URIUtil;
+import com.example.model.Action;
+import com.example.model.Constants;
+
+//The lobby protocol over one TCP connection to the server's NIO lobby server, see LobbyProtocol for the frames
+//Everything a player does in a lobby shares the connection: the sync handshake, raw and clean actions, state hashes and quitting
+//The connection is opened on first use, and a reader thread hands each reply to the request with its id
+//and clean actions to the lobbies this client has subscribed to
+//Requests are pipelined, so a thread waiting for the game to start does not hold up other requests or the action traffic
+public class NioLobbyTransport implements LobbyTransport {
+
+    //Put in place of a clean action once the connection is gone
+    private static final Action CLOSED_ACTION = new Action(-1, 0, 0, -1);
+    //Put in place of a clean action once the lobby has stopped
+    private static final Action LOBBY_CLOSED_ACTION = new Action(-1, 0, 0, -1);
+
+    private final String baseURI;
+    private final String host;
+    private final int port;
+
+    private Socket socket;
+    private OutputStream out;
+    private final ActionCodec rawCodec = ActionCodec.raw();
+    private final AtomicInteger nextRequestID = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<Frame>> pending = new ConcurrentHashMap<>();
+    private final Map<Integer, BlockingQueue<Action>> cleanActions = new ConcurrentHashMap<>();
+    //Only used by the reader thread once subscribed
+    private final Map<Integer, ActionCodec> cleanCodecs = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public NioLobbyTransport() {
+        this(Constants.REMOTE_PUBLIC_URI, URIUtil.getHost(Constants.REMOTE_PUBLIC_URI), Constants.LOBBY_SERVER_PORT);
+    }
+
+    //baseURI is the gate URI of the server, for the parts of a game that do not go through the lobby server
+    public NioLobbyTransport(String baseURI, String host, int port) {
+        this.baseURI = baseURI;
+        this.host = host;
+        this.port = port;
+    }
+
+    private synchronized OutputStream connection() throws IOException {
+        if (closed) {
+            throw new IOException("Connection to lobby server closed");
+        }
+        if (socket == null) {
+            socket = new Socket(host, port);
+            socket.setTcpNoDelay(true);
+            out = new BufferedOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            Thread reader = new Thread(() -> readFrames(in), "lobby-transport-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+        return out;
+    }
+
+    private synchronized void send(byte[] frame) throws IOException {
+        OutputStream out = connection();
+        out.write(frame);
+        out.flush();
+    }
+
+    //Request ids run from 1 and wrap around, NO_REQUEST is never used
+    private int nextRequestID() {
+        return Math.floorMod(nextRequestID.getAndIncrement(), Integer.MAX_VALUE) + 1;
+    }
+
+    private Frame request(int type, int expectedType, Consumer<FrameWriter> fields) throws IOException, InterruptedException {
+        int requestID = nextRequestID();
+        CompletableFuture<Frame> answer = new CompletableFuture<>();
+        pending.put(requestID, answer);
+        try {
+            FrameWriter frame = new FrameWriter(type).varint(requestID);
+            fields.accept(frame);
+            send(frame.finish());
+
+            Frame reply = answer.get();
+            if (reply.type() == LobbyProtocol.ERROR) {
+                throw new IOException(reply.string());
+            }
+            if (reply.type() != expectedType) {
+                throw new IOException("Expected frame type " + expectedType + ", got " + reply.type());
+            }
+            return reply;
+        } catch (ExecutionException e) {
+            throw new IOException("Connection to lobby server closed", e.getCause());
+        } finally {
+            pending.remove(requestID);
+        }
+    }
+
+    private void readFrames(DataInputStream in) {
+        try {
+            while (true) {
+                Frame frame = LobbyProtocol.readFrame(in);
+                if (frame.type() == LobbyProtocol.CLEAN_ACTIONS) {
+                    int lobbyID = frame.varint();
+                    int count = frame.varint();
+                    ActionCodec codec = cleanCodecs.get(lobbyID);
+                    BlockingQueue<Action> queue = cleanActions.get(lobbyID);
+                    for (int i = 0; i < count; i++) {
+                        queue.add(codec.read(frame.body()));
+                    }
+                    continue;
+                }
+                if (frame.type() == LobbyProtocol.LOBBY_CLOSED) {
+                    BlockingQueue<Action> queue = cleanActions.get(frame.varint());
+                    if (queue != null) {
+                        queue.add(LOBBY_CLOSED_ACTION);
+                    }
+                    continue;
+                }
+
+                int requestID = frame.varint();
+                CompletableFuture<Frame> answer = pending.get(requestID);
+                if (answer != null) {
+                    answer.complete(frame);
+                } else if (frame.type() == LobbyProtocol.ERROR) {
+                    System.err.println("Lobby server: " + frame.string());
+                }
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                e.printStackTrace();
+            }
+        } finally {
+            //Set first, so a request or subscription made after this fails to send instead of waiting forever
+            closed = true;
+            IOException gone = new IOException("Connection to lobby server closed");
+            for (CompletableFuture<Frame> answer : pending.values()) {
+                answer.completeExceptionally(gone);
+            }
+            for (BlockingQueue<Action> queue : cleanActions.values()) {
+                queue.add(CLOSED_ACTION);
+            }
+        }
+    }
+
+    @Override
+    public int createLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        return request(LobbyProtocol.CREATE, LobbyProtocol.LOBBY, frame -> frame.varint(nrOfPlayers)).varint();
+    }
+
+    @Override
+    public LobbyTicket createAndJoinLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        Frame reply = request(LobbyProtocol.CREATE_JOIN, LobbyProtocol.LOBBY_JOINED, frame -> frame.varint(nrOfPlayers));
+        return new LobbyTicket(reply.varint(), reply.varint(), reply.varint());
+    }
+
+    @Override
+    public int[] joinLobby(int lobbyID) throws IOException, InterruptedException {
+        Frame reply = request(LobbyProtocol.JOIN, LobbyProtocol.JOINED, frame -> frame.varint(lobbyID));
+        return new int[] {reply.varint(), reply.varint()};
+    }
+
+    @Override
+    public boolean isLobbyFree(int lobbyID) throws IOException, InterruptedException {
+        return request(LobbyProtocol.IS_FREE, LobbyProtocol.FREE, frame -> frame.varint(lobbyID)).varint() == 1;
+    }
+
+    @Override
+    public void startGame(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException {
+        request(LobbyProtocol.READY, LobbyProtocol.START, frame -> frame.varint(lobbyID).varint(playerID).varint(nrOfPlayers));
+    }
+
+    @Override
+    public void quit(int lobbyID, int playerID, int nrOfPlayers) throws IOException {
+        send(new FrameWriter(LobbyProtocol.QUIT).varint(lobbyID).varint(playerID).varint(nrOfPlayers).finish());
+    }
+
+    //The codec keeps the previous clock, so encoding and sending happen under the same lock
+    @Override
+    public synchronized void sendRawAction(int lobbyID, Action action) throws IOException {
+        sendRawActions(lobbyID, List.of(action));
+    }
+
+    //One frame per action, all written before a single flush
+    @Override
+    public synchronized void sendRawActions(int lobbyID, List<Action> actions) throws IOException {
+        OutputStream out = connection();
+        for (Action action : actions) {
+            FrameWriter frame = new FrameWriter(LobbyProtocol.RAW_ACTION).varint(lobbyID);
+            rawCodec.write(action, frame);
+            out.write(frame.finish());
+        }
+        out.flush();
+    }
+
+    //The first call for a lobby subscribes to its clean actions from index from, the server then pushes
+    //every later action unasked, so following calls only take what has arrived
+    @Override
+    public List<Action> awaitCleanActions(int lobbyID, int from) throws IOException, InterruptedException {
+        BlockingQueue<Action> queue = cleanActions.get(lobbyID);
+        if (queue == null) {
+            queue = new LinkedBlockingQueue<>();
+            cleanCodecs.put(lobbyID, ActionCodec.clean(from));
+            cleanActions.put(lobbyID, queue);
+            send(new FrameWriter(LobbyProtocol.SUBSCRIBE).varint(lobbyID).varint(from).finish());
+        }
+
+        List<Action> batch = new ArrayList<>();
+        batch.add(queue.take());
+        queue.drainTo(batch);
+        //The actions before the end are handed out first, later calls keep ending the same way
+        Action last = batch.getLast();
+        if (last == CLOSED_ACTION || last == LOBBY_CLOSED_ACTION) {
+            queue.add(last);
+            batch.removeLast();
+            if (batch.isEmpty()) {
+                throw new IOException(last == CLOSED_ACTION ? "Connection to lobby server closed" : "Lobby " + lobbyID + " closed");
+            }
+        }
+        return batch;
+    }
+
+    @Override
+    public String serverURI(int lobbyID) {
+        return baseURI;
+    }
+
+    @Override
+    public void publishStateHash(int lobbyID, int playerID, int clock, long hash) throws IOException {
+        send(new FrameWriter(LobbyProtocol.STATE_HASH).varint(lobbyID).varint(playerID).varint(clock).int64(hash).finish());
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -1,26 +1,23 @@
 package com.example.GameLogic.ClientComs;
 
-import static com.example.model.Constants.REMOTE_PUBLIC_URI;
-
 import java.io.IOException;
 import java.net.UnknownHostException;
 
-import org.jspace.ActualField;
-import org.jspace.FormalField;
-import org.jspace.RemoteSpace;
-import org.jspace.Space;
-
 import com.example.model.Action;
-import com.example.GameLogic.ActionUtil;
-import com.example.GameLogic.URIUtil;
 import com.example.model.Constants;
 
 public class Reader implements Runnable {
 
+    private final LobbyTransport transport;
     private int lobbyID;
     private boolean running = true;
 
     public Reader(int lobbyID){
+        this(LobbyTransport.create(), lobbyID);
+    }
+
+    public Reader(LobbyTransport transport, int lobbyID){
+        this.transport = transport;
         this.lobbyID = lobbyID;
     }
 
@@ -28,16 +25,17 @@ public class Reader implements Runnable {
         throw new UnsupportedOperationException("TDD: Implement check for active connection.");
     }
 
-    //Continuesly reads from the remote clean actions space and updates the static list of clean actions
+    //Continuesly reads the lobby's clean actions and updates the static list of clean actions
+    //Each wait returns every action from the next index onward, so a burst of actions arrives at once
     @Override
     public void run() {
         int nrOfActions = 0;
         try {
-            Space remoteActions = new RemoteSpace(URIUtil.getCleanActionURI(Constants.REMOTE_PUBLIC_URI, lobbyID));
             while(running) {
-                Action action = ActionUtil.convertObjToAction(remoteActions.query(new FormalField(Integer.class), new FormalField(Integer.class), new FormalField(Integer.class), new ActualField(nrOfActions)));
-                Constants.cleanActions.addAction(action);
-                nrOfActions++;
+                for(Action action : transport.awaitCleanActions(lobbyID, nrOfActions)) {
+                    Constants.cleanActions.addAction(action);
+                    nrOfActions++;
+                }
             }
         } catch (UnknownHostException e) {
             e.printStackTrace();
@@ -0,0 +1,98 @@
+package com.example.GameLogic.ClientComs;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.example.GameLogic.LobbyDirectory;
+import com.example.model.Action;
+
+//The lobby protocol against a sharded deployment, every call goes to the shard the directory says owns the lobby
+//New lobbies are created on the shard the directory picks, and each shard is connected to once and reused
+public class ShardedLobbyTransport implements LobbyTransport {
+
+    private final LobbyDirectory directory;
+    private final Function<String, LobbyTransport> connect;
+    private final Map<String, LobbyTransport> shards = new ConcurrentHashMap<>();
+
+    //connect makes a transport for the shard with the given gate URI
+    public ShardedLobbyTransport(LobbyDirectory directory, Function<String, LobbyTransport> connect) {
+        this.directory = directory;
+        this.connect = connect;
+    }
+
+    private LobbyTransport shard(String uri) {
+        return shards.computeIfAbsent(uri, connect);
+    }
+
+    private LobbyTransport owner(int lobbyID) {
+        return shard(directory.shardFor(lobbyID));
+    }
+
+    @Override
+    public int createLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        return shard(directory.shardForNewLobby()).createLobby(nrOfPlayers);
+    }
+
+    @Override
+    public LobbyTicket createAndJoinLobby(int nrOfPlayers) throws IOException, InterruptedException {
+        return shard(directory.shardForNewLobby()).createAndJoinLobby(nrOfPlayers);
+    }
+
+    @Override
+    public int[] joinLobby(int lobbyID) throws IOException, InterruptedException {
+        return owner(lobbyID).joinLobby(lobbyID);
+    }
+
+    @Override
+    public boolean isLobbyFree(int lobbyID) throws IOException, InterruptedException {
+        return owner(lobbyID).isLobbyFree(lobbyID);
+    }
+
+    @Override
+    public void startGame(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException {
+        owner(lobbyID).startGame(lobbyID, playerID, nrOfPlayers);
+    }
+
+    @Override
+    public void quit(int lobbyID, int playerID, int nrOfPlayers) throws IOException, InterruptedException {
+        owner(lobbyID).quit(lobbyID, playerID, nrOfPlayers);
+    }
+
+    @Override
+    public void sendRawAction(int lobbyID, Action action) throws IOException, InterruptedException {
+        owner(lobbyID).sendRawAction(lobbyID, action);
+    }
+
+    @Override
+    public void sendRawActions(int lobbyID, List<Action> actions) throws IOException, InterruptedException {
+        owner(lobbyID).sendRawActions(lobbyID, actions);
+    }
+
+    @Override
+    public List<Action> awaitCleanActions(int lobbyID, int from) throws IOException, InterruptedException {
+        return owner(lobbyID).awaitCleanActions(lobbyID, from);
+    }
+
+    @Override
+    public void publishStateHash(int lobbyID, int playerID, int clock, long hash) throws IOException, InterruptedException {
+        owner(lobbyID).publishStateHash(lobbyID, playerID, clock, hash);
+    }
+
+    @Override
+    public String serverURI(int lobbyID) {
+        return directory.shardFor(lobbyID);
+    }
+
+    @Override
+    public int shardOf(int lobbyID) {
+        return LobbyDirectory.shardOf(lobbyID, directory.shards().size());
+    }
+
+    @Override
+    public void close() {
+        shards.values().forEach(LobbyTransport::close);
+    }
+}
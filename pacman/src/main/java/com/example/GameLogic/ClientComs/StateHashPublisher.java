@@ -0,0 +1,62 @@
+package com.example.GameLogic.ClientComs;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.example.GameLogic.SnapshotHistory;
+import com.example.model.Constants;
+import com.example.model.GameState;
+import com.example.model.StateHash;
+
+//Sends the hash of settled ticks to the lobby's state hash space so the server can detect desyncs between clients
+public class StateHashPublisher {
+
+    private final LobbyTransport transport;
+    private final int lobbyID;
+    private final int playerID;
+    //Remote puts go through one background thread so the game loop never waits on the network
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "state-hash-publisher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public StateHashPublisher(int lobbyID, int playerID) {
+        this(LobbyTransport.create(), lobbyID, playerID);
+    }
+
+    public StateHashPublisher(LobbyTransport transport, int lobbyID, int playerID) {
+        this.transport = transport;
+        this.lobbyID = lobbyID;
+        this.playerID = playerID;
+    }
+
+    //Called once per simulated tick, hashes the tick STATE_HASH_DELAY ticks back on every STATE_HASH_INTERVAL'th tick
+    public void onTick(int clock, SnapshotHistory history) {
+        int hashClock = clock - Constants.STATE_HASH_DELAY;
+        if (hashClock < 0 || hashClock % Constants.STATE_HASH_INTERVAL != 0) {
+            return;
+        }
+        GameState settled = history.get(hashClock);
+        if (settled != null) {
+            publish(hashClock, StateHash.of(settled));
+        }
+    }
+
+    public void publish(int clock, long hash) {
+        sender.execute(() -> {
+            try {
+                transport.publishStateHash(lobbyID, playerID, clock, hash);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    public void stop() {
+        sender.shutdownNow();
+    }
+}
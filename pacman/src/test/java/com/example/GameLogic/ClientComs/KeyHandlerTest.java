@@ -0,0 +1,189 @@
+package com.example.GameLogic.ClientComs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.common.BaseTest;
+import com.example.model.Action;
+import com.example.model.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Key Handler Tests")
+public class KeyHandlerTest extends BaseTest {
+
+    //Records the batches the key handler sends, and can hold the sender inside a send
+    private static final class RecordingTransport implements LobbyTransport {
+        private final List<List<Action>> batches = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch release = new CountDownLatch(0);
+        private final CountDownLatch firstSend = new CountDownLatch(1);
+
+        @Override
+        public void sendRawActions(int lobbyID, List<Action> actions) throws InterruptedException {
+            batches.add(List.copyOf(actions));
+            threads.add(Thread.currentThread().getName());
+            firstSend.countDown();
+            release.await();
+        }
+
+        @Override
+        public void sendRawAction(int lobbyID, Action action) throws InterruptedException {
+            sendRawActions(lobbyID, List.of(action));
+        }
+
+        private List<Action> sent() {
+            List<Action> all = new ArrayList<>();
+            batches.forEach(all::addAll);
+            return all;
+        }
+
+        @Override
+        public int createLobby(int nrOfPlayers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int[] joinLobby(int lobbyID) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isLobbyFree(int lobbyID) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void startGame(int lobbyID, int playerID, int nrOfPlayers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void quit(int lobbyID, int playerID, int nrOfPlayers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Action> awaitCleanActions(int lobbyID, int from) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void publishStateHash(int lobbyID, int playerID, int clock, long hash) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String serverURI(int lobbyID) {
+            return "tcp://127.0.0.1:50000/?keep";
+        }
+    }
+
+    private final RecordingTransport transport = new RecordingTransport();
+    private KeyHandler keyHandler;
+    private int savedClock;
+
+    @Override
+    protected long getTimeoutSeconds() {
+        return 3;
+    }
+
+    @Override
+    protected long getOptimalTimeoutMillis() {
+        return 500;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        savedClock = Constants.clock;
+        Constants.clock = 100;
+        keyHandler = new KeyHandler(transport, 1, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transport.release.countDown();
+        keyHandler.stop();
+        Constants.clock = savedClock;
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        while (transport.sent().size() < count) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Presses should be sent in the order they were made, from one thread")
+    public void testOrderAndSingleSender() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            Constants.clock = 100 + i;
+            keyHandler.move(i % 2 == 0 ? KeyCode.UP : KeyCode.LEFT);
+        }
+        awaitSent(20);
+
+        List<Action> sent = transport.sent();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(100 + i + Constants.actionOffset, sent.get(i).clock());
+            assertEquals(i % 2 == 0 ? 3 : 1, sent.get(i).getMove());
+        }
+        assertEquals(1, transport.threads.stream().distinct().count(), "Every batch should come from the same thread");
+    }
+
+    @Test
+    @DisplayName("Presses made while a send is under way should go out as one batch, one action per tick")
+    public void testCoalesceWhileSending() throws InterruptedException {
+        transport.release = new CountDownLatch(1);
+        keyHandler.moveUp();
+        assertTrue(transport.firstSend.await(1, TimeUnit.SECONDS));
+
+        keyHandler.moveDown();
+        keyHandler.moveLeft();
+        Constants.clock++;
+        keyHandler.moveRight();
+        transport.release.countDown();
+        awaitSent(3);
+
+        assertEquals(2, transport.batches.size());
+        List<Action> batch = transport.batches.get(1);
+        assertEquals(List.of(1, 2), batch.stream().map(Action::getMove).toList(), "Only the last press of a tick should be kept");
+        assertEquals(batch.get(0).clock() + 1, batch.get(1).clock());
+    }
+
+    @Test
+    @DisplayName("Keys that are not moves should send nothing")
+    public void testIgnoredKeys() throws InterruptedException {
+        keyHandler.move(KeyCode.SPACE);
+        keyHandler.move(KeyCode.D);
+        awaitSent(1);
+        Thread.sleep(20);
+        assertEquals(List.of(2), transport.sent().stream().map(Action::getMove).toList());
+    }
+
+    @Test
+    @DisplayName("A full queue should drop the oldest presses and keep the newest")
+    public void testBoundedQueue() throws InterruptedException {
+        transport.release = new CountDownLatch(1);
+        keyHandler.moveUp();
+        assertTrue(transport.firstSend.await(1, TimeUnit.SECONDS));
+
+        for (int i = 0; i < KeyHandler.INPUT_QUEUE_CAPACITY * 2; i++) {
+            Constants.clock = 200 + i;
+            keyHandler.moveLeft();
+        }
+        transport.release.countDown();
+        awaitSent(1 + KeyHandler.INPUT_QUEUE_CAPACITY);
+
+        List<Action> sent = transport.sent();
+        assertEquals(1 + KeyHandler.INPUT_QUEUE_CAPACITY, sent.size());
+        assertEquals(200 + KeyHandler.INPUT_QUEUE_CAPACITY * 2 - 1 + Constants.actionOffset, sent.getLast().clock());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.GameLogic.ClientComs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.GameLogic.LobbyDirectory;
+import com.example.GameLogic.StaticLobbyDirectory;
+import com.example.ServerLogic.ActionStreamSpace;
+import com.example.ServerLogic.NioLobbyServer;
+import com.example.ServerLogic.RawActionInbox;
+import com.example.common.BaseTest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.QueueSpace;
+import org.jspace.RandomSpace;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Sharded Lobby Transport Tests")
+public class ShardedLobbyTransportTest extends BaseTest {
+
+    private static final int NR_OF_SHARDS = 2;
+
+    //A server process, reduced to what answering create and join needs
+    private static final class Shard {
+        private final SpaceRepository rep = new SpaceRepository();
+        private final Space space1 = new RandomSpace();
+        private final NioLobbyServer server;
+        private final Thread creator;
+
+        private Shard(int index) throws Exception {
+            for (int i = 0; i < 4; i++) {
+                space1.put(index + i * NR_OF_SHARDS, 0, "FREE");
+            }
+            creator = Thread.ofVirtual().start(() -> {
+                try {
+                    while (true) {
+                        Object[] t = space1.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("CREATE"));
+                        int lobbyID = (int) t[0];
+                        int nrOfPlayers = (int) t[1];
+                        Space sync = new RandomSpace();
+                        rep.add(lobbyID+"sync", sync);
+                        rep.add(lobbyID+"rawAction", new RawActionInbox());
+                        rep.add(lobbyID+"cleanAction", new ActionStreamSpace());
+                        rep.add(lobbyID+"stateHash", new QueueSpace());
+                        for (int p = 0; p < nrOfPlayers; p++) {
+                            sync.put(p, nrOfPlayers, "PLAYERID");
+                        }
+                        space1.put(lobbyID, nrOfPlayers, "OK");
+                    }
+                } catch (InterruptedException e) {
+                    //Test over
+                }
+            });
+            server = new NioLobbyServer(rep, space1, 0, 1);
+            server.start();
+        }
+
+        private void stop() {
+            creator.interrupt();
+            server.close();
+        }
+    }
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final Map<String, Shard> shardByURI = new HashMap<>();
+    private ShardedLobbyTransport transport;
+
+    @Override
+    protected long getTimeoutSeconds() {
+        return 5;
+    }
+
+    @Override
+    protected long getOptimalTimeoutMillis() {
+        return 2000;
+    }
+
+    @BeforeEach
+    public void startShards() throws Exception {
+        List<String> uris = new ArrayList<>();
+        for (int i = 0; i < NR_OF_SHARDS; i++) {
+            Shard shard = new Shard(i);
+            String uri = "tcp://127.0.0.1:" + (50000 + i) + "/?keep";
+            shards.add(shard);
+            shardByURI.put(uri, shard);
+            uris.add(uri);
+        }
+        LobbyDirectory directory = new StaticLobbyDirectory(uris);
+        transport = new ShardedLobbyTransport(directory,
+            uri -> new NioLobbyTransport(uri, "127.0.0.1", shardByURI.get(uri).server.getPort()));
+    }
+
+    @AfterEach
+    public void stopShards() {
+        transport.close();
+        shards.forEach(Shard::stop);
+    }
+
+    @Test
+    @DisplayName("New lobbies should be created on every shard, each with an id that shard owns")
+    public void testCreateSpreadsOverShards() throws Exception {
+        List<Integer> created = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            created.add(transport.createLobby(1));
+        }
+        for (int i = 0; i < NR_OF_SHARDS; i++) {
+            int shard = i;
+            assertEquals(2, created.stream().filter(id -> LobbyDirectory.shardOf(id, NR_OF_SHARDS) == shard).count());
+        }
+        assertEquals(4, created.stream().distinct().count(), "Lobby ids should be unique across shards");
+    }
+
+    @Test
+    @DisplayName("Lobby calls should go to the shard that owns the lobby")
+    public void testCallsGoToOwner() throws Exception {
+        int first = transport.createLobby(2);
+        int second = transport.createLobby(2);
+        assertTrue(LobbyDirectory.shardOf(first, NR_OF_SHARDS) != LobbyDirectory.shardOf(second, NR_OF_SHARDS));
+
+        for (int lobbyID : List.of(first, second)) {
+            int[] ids = transport.joinLobby(lobbyID);
+            assertEquals(2, ids[1]);
+            assertFalse(transport.isLobbyFree(lobbyID));
+            assertEquals(LobbyDirectory.shardOf(lobbyID, NR_OF_SHARDS), transport.shardOf(lobbyID));
+            assertTrue(transport.serverURI(lobbyID).endsWith(":" + (50000 + LobbyDirectory.shardOf(lobbyID, NR_OF_SHARDS)) + "/?keep"));
+        }
+    }
+}
@@ -17,6 +17,7 @@ import com.example.model.Ghost;
 import com.example.model.GhostType;
 import com.example.model.Player;
 import com.example.model.Position;
+import com.example.model.TileGrid;
 import com.example.model.TileType;
 import java.util.ArrayList;
 import java.util.List;
@@ -125,8 +126,8 @@ public class ClientGameControllerTest extends BaseTest {
     public void testMapWrapAround() {
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
-        double mapWidth = tiles[0].length * TILE_SIZE;
+        TileGrid tiles = initialState.tiles();
+        double mapWidth = tiles.getWidth() * TILE_SIZE;
 
         player.setPosition(new Position(-20, 8 * TILE_SIZE));
         player.setDirection(Direction.WEST);
@@ -143,9 +144,9 @@ public class ClientGameControllerTest extends BaseTest {
     public void testPelletConsumption() {
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        tiles[3][3] = TileType.PAC_DOT;
+        tiles.set(3, 3, TileType.PAC_DOT);
         player.setPosition(new Position(3 * TILE_SIZE, 3 * TILE_SIZE));
         int initialPoints = player.getPoints();
 
@@ -154,7 +155,7 @@ public class ClientGameControllerTest extends BaseTest {
         tiles = initialState.tiles(); // Re-fetch tiles from new state
 
         assertTrue(player.getPoints() > initialPoints, "Points should increase");
-        assertEquals(TileType.EMPTY, tiles[3][3], "Tile should become EMPTY");
+        assertEquals(TileType.EMPTY, tiles.get(3, 3), "Tile should become EMPTY");
     }
 
     @Test
@@ -162,16 +163,16 @@ public class ClientGameControllerTest extends BaseTest {
     public void testPowerPelletConsumption() {
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        tiles[3][3] = TileType.ENERGIZER;
+        tiles.set(3, 3, TileType.ENERGIZER);
         player.setPosition(new Position(3 * TILE_SIZE, 3 * TILE_SIZE));
 
         initialState = controller.updateGameState(initialState, new ArrayList<>());
         tiles = initialState.tiles();
 
         assertTrue(initialState.entityTracker().getFrightenedTimerSec() > 0, "Frightened timer should be active");
-        assertEquals(TileType.EMPTY, tiles[3][3], "Tile should become EMPTY");
+        assertEquals(TileType.EMPTY, tiles.get(3, 3), "Tile should become EMPTY");
     }
 
     @Test
@@ -179,9 +180,9 @@ public class ClientGameControllerTest extends BaseTest {
     public void testPowerUpExtension() {
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        tiles[3][3] = TileType.ENERGIZER;
+        tiles.set(3, 3, TileType.ENERGIZER);
         player.setPosition(new Position(3 * TILE_SIZE, 3 * TILE_SIZE));
 
         initialState.entityTracker().setFrightenedTimerSec(Constants.FRIGHTENED_DURATION_SEC - 2.0);
@@ -197,17 +198,17 @@ public class ClientGameControllerTest extends BaseTest {
     public void testWinCondition() {
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                if (tiles[y][x] == TileType.PAC_DOT || tiles[y][x] == TileType.ENERGIZER) {
-                    tiles[y][x] = TileType.EMPTY;
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                if (tiles.get(x, y) == TileType.PAC_DOT || tiles.get(x, y) == TileType.ENERGIZER) {
+                    tiles.set(x, y, TileType.EMPTY);
                 }
             }
         }
 
-        tiles[5][5] = TileType.PAC_DOT;
+        tiles.set(5, 5, TileType.PAC_DOT);
         player.setPosition(new Position(5 * TILE_SIZE, 5 * TILE_SIZE));
 
         GameState nextState = controller.updateGameState(initialState, new ArrayList<>());
@@ -222,12 +223,12 @@ public class ClientGameControllerTest extends BaseTest {
 
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
         boolean foundFruit = false;
-        for (TileType[] row : tiles) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                if (row[x] == TileType.CHERRY) {
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                if (tiles.get(x, y) == TileType.CHERRY) {
                     foundFruit = true;
                     break;
                 }
@@ -236,10 +237,10 @@ public class ClientGameControllerTest extends BaseTest {
         assertFalse(foundFruit, "Fruit (Cherry) should NOT be on the map initially");
 
         int dotsEaten = 0;
-        for (int y = 0; y < tiles.length && dotsEaten < 70; y++) {
-            for (int x = 0; x < tiles[0].length && dotsEaten < 70; x++) {
-                if (tiles[y][x] == TileType.PAC_DOT) {
-                    tiles[y][x] = TileType.EMPTY;
+        for (int y = 0; y < tiles.getHeight() && dotsEaten < 70; y++) {
+            for (int x = 0; x < tiles.getWidth() && dotsEaten < 70; x++) {
+                if (tiles.get(x, y) == TileType.PAC_DOT) {
+                    tiles.set(x, y, TileType.EMPTY);
                     player.addPoints(10);
                     dotsEaten++;
                 }
@@ -249,9 +250,9 @@ public class ClientGameControllerTest extends BaseTest {
         initialState = controller.updateGameState(initialState, new ArrayList<>());
         tiles = initialState.tiles();
 
-        for (TileType[] row : tiles) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                if (row[x] == TileType.CHERRY) {
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                if (tiles.get(x, y) == TileType.CHERRY) {
                     foundFruit = true;
                     break;
                 }
@@ -266,19 +267,20 @@ public class ClientGameControllerTest extends BaseTest {
 
         initialState.ghosts().clear();
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                tiles[y][x] = TileType.EMPTY;
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                tiles.set(x, y, TileType.EMPTY);
             }
         }
 
         GameState nextState = controller.updateGameState(initialState, new ArrayList<>());
 
         boolean foundPellet = false;
-        for (TileType[] row : nextState.tiles()) {
-            for (TileType tile : row) {
+        for (int y = 0; y < nextState.tiles().getHeight(); y++) {
+            for (int x = 0; x < nextState.tiles().getWidth(); x++) {
+                TileType tile = nextState.tiles().get(x, y);
                 if (tile == TileType.PAC_DOT) {
                     foundPellet = true;
                     break;
@@ -301,10 +303,10 @@ public class ClientGameControllerTest extends BaseTest {
         double initialSpeed = Constants.GHOST_SPEED;
 
         initialState.ghosts().clear();
-        TileType[][] tiles = initialState.tiles();
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                tiles[y][x] = TileType.EMPTY;
+        TileGrid tiles = initialState.tiles();
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                tiles.set(x, y, TileType.EMPTY);
             }
         }
 
@@ -318,11 +320,11 @@ public class ClientGameControllerTest extends BaseTest {
     public void testLevelProgression() {
 
         initialState.ghosts().clear();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                tiles[y][x] = TileType.EMPTY;
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                tiles.set(x, y, TileType.EMPTY);
             }
         }
 
@@ -331,8 +333,9 @@ public class ClientGameControllerTest extends BaseTest {
         assertNotNull(nextState.winner(), "Winner should be set");
         
         boolean foundPellet = false;
-        for (TileType[] row : nextState.tiles()) {
-            for (TileType tile : row) {
+        for (int y = 0; y < nextState.tiles().getHeight(); y++) {
+            for (int x = 0; x < nextState.tiles().getWidth(); x++) {
+                TileType tile = nextState.tiles().get(x, y);
                 if (tile == TileType.PAC_DOT || tile == TileType.ENERGIZER) {
                     foundPellet = true;
                     break;
@@ -588,9 +591,9 @@ public class ClientGameControllerTest extends BaseTest {
         initialState.ghosts().add(ghost);
 
         Player player = initialState.players().getFirst();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        tiles[1][2] = TileType.ENERGIZER;
+        tiles.set(2, 1, TileType.ENERGIZER);
 
         player.setPosition(new Position(1.5 * TILE_SIZE, TILE_SIZE));
         player.setDirection(Direction.EAST);
@@ -604,7 +607,7 @@ public class ClientGameControllerTest extends BaseTest {
 
         assertFalse(player.isAlive(), "Player should be dead (Collision priority over Powerup)");
         assertEquals(TileType.ENERGIZER,
-            tiles[1][2], "Energizer should theoretically remain if player died before eating");
+            tiles.get(2, 1), "Energizer should theoretically remain if player died before eating");
     }
 
     @Test
@@ -668,11 +671,11 @@ public class ClientGameControllerTest extends BaseTest {
     public void testWinConditionLogic() {
 
         initialState.ghosts().clear();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
-        for (int y = 0; y < tiles.length; y++) {
-            for (int x = 0; x < tiles[0].length; x++) {
-                tiles[y][x] = TileType.EMPTY;
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                tiles.set(x, y, TileType.EMPTY);
             }
         }
 
@@ -686,11 +689,12 @@ public class ClientGameControllerTest extends BaseTest {
     public void testFruitSpawnLogic() {
 
         initialState.ghosts().clear();
-        TileType[][] tiles = initialState.tiles();
+        TileGrid tiles = initialState.tiles();
 
         int pellets = 0;
-        for (TileType[] row : tiles) {
-            for (TileType t : row) {
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                TileType t = tiles.get(x, y);
                 if (t == TileType.PAC_DOT) {
                     pellets++;
                 }
@@ -702,10 +706,10 @@ public class ClientGameControllerTest extends BaseTest {
         p.addPoints(threshold * 10);
 
         int removed = 0;
-        for (int y = 0; y < tiles.length && removed < threshold; y++) {
-            for (int x = 0; x < tiles[0].length && removed < threshold; x++) {
-                if (tiles[y][x] == TileType.PAC_DOT) {
-                    tiles[y][x] = TileType.EMPTY;
+        for (int y = 0; y < tiles.getHeight() && removed < threshold; y++) {
+            for (int x = 0; x < tiles.getWidth() && removed < threshold; x++) {
+                if (tiles.get(x, y) == TileType.PAC_DOT) {
+                    tiles.set(x, y, TileType.EMPTY);
                     removed++;
                 }
             }
@@ -714,8 +718,9 @@ public class ClientGameControllerTest extends BaseTest {
         initialState = controller.updateGameState(initialState, new ArrayList<>());
 
         int remainingPellets = 0;
-        for (TileType[] row : initialState.tiles()) {
-            for (TileType t : row) {
+        for (int y = 0; y < initialState.tiles().getHeight(); y++) {
+            for (int x = 0; x < initialState.tiles().getWidth(); x++) {
+                TileType t = initialState.tiles().get(x, y);
                 if (t == TileType.PAC_DOT) {
                     remainingPellets++;
                 }
@@ -724,8 +729,9 @@ public class ClientGameControllerTest extends BaseTest {
         assertEquals(pellets - removed, remainingPellets, "Pellets should be removed from map");
 
         boolean foundFruit = false;
-        for (TileType[] row : initialState.tiles()) {
-            for (TileType t : row) {
+        for (int y = 0; y < initialState.tiles().getHeight(); y++) {
+            for (int x = 0; x < initialState.tiles().getWidth(); x++) {
+                TileType t = initialState.tiles().get(x, y);
                 if (t == TileType.CHERRY || t == TileType.STRAWBERRY) {
                     foundFruit = true;
                     break;
@@ -760,7 +766,7 @@ public class ClientGameControllerTest extends BaseTest {
     public void testTeleportationBoundary() {
 
         Player p = initialState.players().getFirst();
-        double mapWidth = initialState.tiles()[0].length * TILE_SIZE;
+        double mapWidth = initialState.tiles().getWidth() * TILE_SIZE;
         double moveAmount = Constants.PLAYER_SPEED / Constants.TARGET_FPS;
 
         // Position such that one move puts us 0.1 past the map width
@@ -854,8 +860,8 @@ public class ClientGameControllerTest extends BaseTest {
         player.setPosition(new Position(2 * TILE_SIZE, 3 * TILE_SIZE));
         player.setDirection(Direction.EAST);
 
-        TileType[][] tiles = initialState.tiles();
-        tiles[3][3] = TileType.ENERGIZER;
+        TileGrid tiles = initialState.tiles();
+        tiles.set(3, 3, TileType.ENERGIZER);
         
         Constants.cleanActions.addAction(new Action(0, 1, 2, 0));
 
@@ -863,7 +869,7 @@ public class ClientGameControllerTest extends BaseTest {
         GameState finalState = controller.updateGameStateFor(initialState, 15);
 
         assertNotNull(finalState, "Final state should not be null");
-        assertEquals(TileType.EMPTY, finalState.tiles()[3][3], "Energizer should be eaten in final state");
+        assertEquals(TileType.EMPTY, finalState.tiles().get(3, 3), "Energizer should be eaten in final state");
         assertTrue(finalState.entityTracker().getFrightenedTimerSec() > 0, "Ghosts should be frightened after eating energizer in resimulation");
         assertTrue(finalState.players().getFirst().getPoints() > 0, "Player should have more points in final state");
     }
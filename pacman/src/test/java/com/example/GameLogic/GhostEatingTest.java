@@ -59,8 +59,8 @@ public class GhostEatingTest extends BaseTest {
     }
 
     private void clearTileAt(int gridX, int gridY) {
-        if (gridX >= 0 && gridY >= 0 && gridY < state.tiles().length && gridX < state.tiles()[0].length) {
-            state.tiles()[gridY][gridX] = TileType.EMPTY;
+        if (gridX >= 0 && gridY >= 0 && gridY < state.tiles().getHeight() && gridX < state.tiles().getWidth()) {
+            state.tiles().set(gridX, gridY, TileType.EMPTY);
         }
     }
 
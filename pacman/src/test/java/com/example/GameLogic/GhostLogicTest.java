@@ -13,6 +13,7 @@ import com.example.model.Ghost;
 import com.example.model.GhostType;
 import com.example.model.Player;
 import com.example.model.Position;
+import com.example.model.TileGrid;
 import com.example.model.TileType;
 import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,7 +62,7 @@ public class GhostLogicTest extends BaseTest {
             0,
             state.players(),
             state.ghosts(),
-            boxMap,
+            new TileGrid(boxMap),
             null,
             state.entityTracker().copy()
         );
@@ -0,0 +1,216 @@
+package com.example.ServerLogic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.GameLogic.ClientComs.LobbyTicket;
+import com.example.GameLogic.ClientComs.NioLobbyTransport;
+import com.example.model.Action;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.jspace.ActualField;
+import org.jspace.FormalField;
+import org.jspace.QueueSpace;
+import org.jspace.RandomSpace;
+import org.jspace.Space;
+import org.jspace.SpaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("NIO Lobby Server Tests")
+@Timeout(10)
+public class NioLobbyServerTest {
+
+    private final SpaceRepository rep = new SpaceRepository();
+    private final Space space1 = new RandomSpace();
+    private final List<Lobby> lobbys = new CopyOnWriteArrayList<>();
+    private final List<NioLobbyTransport> clients = new ArrayList<>();
+    private NioLobbyServer server;
+    private Thread creator;
+
+    //Sets lobbies up the way ServerController does
+    @BeforeEach
+    public void startServer() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            space1.put(i, 0, "FREE");
+        }
+        creator = Thread.ofVirtual().start(() -> {
+            try {
+                while (true) {
+                    Object[] t = space1.get(new FormalField(Integer.class), new FormalField(Integer.class), new ActualField("CREATE"));
+                    int lobbyID = (int) t[0];
+                    int nrOfPlayers = (int) t[1];
+                    rep.add(lobbyID+"sync", new RandomSpace());
+                    rep.add(lobbyID+"rawAction", new RawActionInbox());
+                    rep.add(lobbyID+"cleanAction", new ActionStreamSpace());
+                    rep.add(lobbyID+"stateHash", new QueueSpace());
+                    Lobby lobby = new Lobby(rep, nrOfPlayers, lobbyID, System.currentTimeMillis());
+                    lobbys.add(lobby);
+                    space1.put(lobbyID, nrOfPlayers, "OK");
+                    lobby.start();
+                }
+            } catch (InterruptedException e) {
+                //Test over
+            }
+        });
+        server = new NioLobbyServer(rep, space1, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        clients.forEach(NioLobbyTransport::close);
+        creator.interrupt();
+        lobbys.forEach(Lobby::stop);
+        server.close();
+    }
+
+    private NioLobbyTransport connect() {
+        NioLobbyTransport client = new NioLobbyTransport("tcp://127.0.0.1:50000/?keep", "127.0.0.1", server.getPort());
+        clients.add(client);
+        return client;
+    }
+
+    @Test
+    @DisplayName("Two players should create, join and start a lobby and see each other's actions")
+    public void testLobbyLifecycle() throws Exception {
+        NioLobbyTransport host = connect();
+        NioLobbyTransport guest = connect();
+
+        int lobbyID = host.createLobby(2);
+        int[] hostIds = host.joinLobby(lobbyID);
+        int[] guestIds = guest.joinLobby(lobbyID);
+        assertEquals(2, hostIds[1]);
+        assertEquals(2, guestIds[1]);
+        assertTrue(hostIds[0] != guestIds[0], "Players should get different ids");
+        assertFalse(host.isLobbyFree(lobbyID));
+
+        CompletableFuture<Void> hostStarted = CompletableFuture.runAsync(() -> {
+            try {
+                host.startGame(lobbyID, hostIds[0], 2);
+            } catch (IOException | InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        guest.startGame(lobbyID, guestIds[0], 2);
+        hostStarted.get(2, TimeUnit.SECONDS);
+
+        guest.sendRawAction(lobbyID, new Action(guestIds[0], 10, 3));
+        guest.sendRawAction(lobbyID, new Action(guestIds[0], 12, 4));
+        List<Action> seen = new ArrayList<>();
+        while (seen.size() < 2) {
+            seen.addAll(host.awaitCleanActions(lobbyID, seen.size()));
+        }
+        assertEquals(List.of(0, 1), seen.stream().map(Action::getIndex).toList());
+        assertEquals(List.of(10, 12), seen.stream().map(Action::clock).toList());
+        assertEquals(List.of(3, 4), seen.stream().map(Action::getMove).toList());
+
+        //The lobby's desync monitor takes the hashes, two different ones for a tick show both arrived
+        host.publishStateHash(lobbyID, hostIds[0], 20, 0x1234_5678_9ABC_DEF0L);
+        guest.publishStateHash(lobbyID, guestIds[0], 20, 0x0FED_CBA9_8765_4321L);
+        DesyncMonitor monitor = lobbys.getFirst().getDesyncMonitor();
+        while (!monitor.isDesynced()) {
+            Thread.sleep(5);
+        }
+        assertEquals(20, monitor.getFirstDivergentClock());
+
+        guest.quit(lobbyID, guestIds[0], 2);
+        assertEquals(guestIds[0], (int) lobbys.getFirst().getQuit().get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Creating and joining in one request should leave the other player ids for the guests")
+    public void testCreateAndJoin() throws Exception {
+        NioLobbyTransport host = connect();
+        NioLobbyTransport guest = connect();
+
+        LobbyTicket ticket = host.createAndJoinLobby(2);
+        assertEquals(2, ticket.nrOfPlayers());
+        int[] guestIds = guest.joinLobby(ticket.lobbyID());
+        assertTrue(ticket.playerID() != guestIds[0], "Players should get different ids");
+    }
+
+    @Test
+    @DisplayName("Joining a lobby that does not exist should fail with the server's error")
+    public void testJoinUnknownLobby() {
+        NioLobbyTransport client = connect();
+        IOException e = assertThrows(IOException.class, () -> client.joinLobby(42));
+        assertEquals("Lobby 42 not found", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Requests on one connection should not wait behind a player waiting for the game to start")
+    public void testPipelinedRequests() throws Exception {
+        NioLobbyTransport client = connect();
+        LobbyTicket ticket = client.createAndJoinLobby(2);
+
+        //The second player never becomes ready, so the host keeps waiting for the game to start
+        CompletableFuture<Void> started = CompletableFuture.runAsync(() -> {
+            try {
+                client.startGame(ticket.lobbyID(), ticket.playerID(), 2);
+            } catch (IOException | InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+
+        assertFalse(client.isLobbyFree(ticket.lobbyID()));
+        assertTrue(client.isLobbyFree(3) || client.isLobbyFree(2));
+        int[] guestIds = client.joinLobby(ticket.lobbyID());
+        assertTrue(ticket.playerID() != guestIds[0]);
+        assertFalse(started.isDone(), "The host should still be waiting for the guest");
+
+        client.startGame(ticket.lobbyID(), guestIds[0], 2);
+        started.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("A few event loops should serve many connections at once")
+    public void testManyConnections() throws Exception {
+        List<CompletableFuture<Boolean>> answers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            NioLobbyTransport client = connect();
+            answers.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return client.isLobbyFree(1);
+                } catch (IOException | InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        for (CompletableFuture<Boolean> answer : answers) {
+            assertTrue(answer.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("A subscription should end when its lobby stops")
+    public void testSubscriptionEndsWithLobby() throws Exception {
+        NioLobbyTransport client = connect();
+        LobbyTicket ticket = client.createAndJoinLobby(1);
+        CompletableFuture<Void> started = CompletableFuture.runAsync(() -> {
+            try {
+                client.startGame(ticket.lobbyID(), ticket.playerID(), 1);
+            } catch (IOException | InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        started.get(2, TimeUnit.SECONDS);
+        client.sendRawAction(ticket.lobbyID(), new Action(ticket.playerID(), 10, 3));
+        assertEquals(1, client.awaitCleanActions(ticket.lobbyID(), 0).size());
+
+        lobbys.getFirst().stop();
+        IOException e = assertThrows(IOException.class, () -> client.awaitCleanActions(ticket.lobbyID(), 1));
+        assertTrue(e.getMessage().contains("closed"));
+        assertFalse(client.isLobbyFree(ticket.lobbyID()), "The connection should still serve other requests");
+    }
+}
@@ -2,12 +2,10 @@ package com.example.model;
 
 import static com.example.model.Constants.TILE_SIZE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.example.common.BaseTest;
-import javafx.util.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -45,9 +43,8 @@ public class PositionTest extends BaseTest {
     public void testToGridPositionNormal() {
 
         Position pos = new Position(TILE_SIZE, TILE_SIZE);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertEquals((Integer) 1, grid.getKey());
-        assertEquals((Integer) 1, grid.getValue());
+        assertEquals(1, pos.gridX());
+        assertEquals(1, pos.gridY());
     }
 
     @Test
@@ -56,20 +53,17 @@ public class PositionTest extends BaseTest {
         Position pos = new Position(-50.0, -100.0);
         assertEquals(-50.0, pos.x, 0.0);
         assertEquals(-100.0, pos.y, 0.0);
-
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertEquals((Integer) 0, grid.getKey());
-        assertEquals((Integer) 0, grid.getValue());
+        assertEquals(0, pos.gridX());
+        assertEquals(0, pos.gridY());
     }
 
     @Test
     @DisplayName("Conversion should handle extremely large coordinate values")
     public void testLargeCoordinates() {
         Position pos = new Position(10000.0, 10000.0);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
 
-        assertEquals((Integer) (int)(10000.0 / TILE_SIZE + 0.5), grid.getKey(), "Large X coordinate grid mapping");
-        assertEquals((Integer) (int)(10000.0 / TILE_SIZE + 0.5), grid.getValue(), "Large Y coordinate grid mapping");
+        assertEquals((int)(10000.0 / TILE_SIZE + 0.5), pos.gridX(), "Large X coordinate grid mapping");
+        assertEquals((int)(10000.0 / TILE_SIZE + 0.5), pos.gridY(), "Large Y coordinate grid mapping");
     }
 
     @Test
@@ -77,20 +71,17 @@ public class PositionTest extends BaseTest {
     public void testExactBoundaryValues() {
 
         Position posLow = new Position(TILE_SIZE / 2.0 - 0.01, TILE_SIZE / 2.0 - 0.01);
-        Pair<Integer, Integer> gridLow = posLow.ToGridPosition();
-        assertEquals((Integer) 0, gridLow.getKey(), "Just below boundary should map to 0");
-        assertEquals((Integer) 0, gridLow.getValue(), "Just below boundary should map to 0");
+        assertEquals(0, posLow.gridX(), "Just below boundary should map to 0");
+        assertEquals(0, posLow.gridY(), "Just below boundary should map to 0");
 
         Position posHigh = new Position(TILE_SIZE / 2.0, TILE_SIZE / 2.0);
-        Pair<Integer, Integer> gridHigh = posHigh.ToGridPosition();
 
-        assertEquals((Integer) 1, gridHigh.getKey(), "Exactly at boundary should map to 1");
-        assertEquals((Integer) 1, gridHigh.getValue(), "Exactly at boundary should map to 1");
+        assertEquals(1, posHigh.gridX(), "Exactly at boundary should map to 1");
+        assertEquals(1, posHigh.gridY(), "Exactly at boundary should map to 1");
         
         Position posRight = new Position(TILE_SIZE + TILE_SIZE / 2.0 - 0.01, TILE_SIZE);
-        Pair<Integer, Integer> gridRight = posRight.ToGridPosition();
-        assertEquals((Integer) 1, gridRight.getKey(), "Just below next boundary should map to 1");
-        assertEquals((Integer) 1, gridRight.getValue(), "Center of tile 1 should map to 1");
+        assertEquals(1, posRight.gridX(), "Just below next boundary should map to 1");
+        assertEquals(1, posRight.gridY(), "Center of tile 1 should map to 1");
     }
 
     @Test
@@ -100,7 +91,8 @@ public class PositionTest extends BaseTest {
         assertEquals(Double.NaN, pos.x, 0.0);
 
         try {
-            pos.ToGridPosition();
+            pos.gridX();
+            pos.gridY();
         } catch (Exception e) {
             fail("Should not throw exception on NaN");
         }
@@ -112,35 +104,30 @@ public class PositionTest extends BaseTest {
         Position pos = new Position(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
         assertEquals(Double.POSITIVE_INFINITY, pos.x, 0.0);
 
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-
-        assertNotNull(grid);
+        assertTrue(pos.gridX() >= 0 && pos.gridY() >= 0);
     }
 
     @Test
     @DisplayName("Coordinate to screen pixel conversion should be accurate")
     public void testToScreenPosition() {
         Position pos = new Position(50.9, 25.1);
-        Pair<Integer, Integer> screen = pos.ToScreenPosition();
-        assertEquals((Integer) 50, screen.getKey());
-        assertEquals((Integer) 25, screen.getValue());
+        assertEquals(50, pos.screenX());
+        assertEquals(25, pos.screenY());
     }
 
     @Test
     @DisplayName("Coordinates just below zero should map to grid index 0")
     public void testJustBelowZero() {
         Position pos = new Position(-0.1, -0.1);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertEquals((Integer) 0, grid.getKey());
-        assertEquals((Integer) 0, grid.getValue());
+        assertEquals(0, pos.gridX());
+        assertEquals(0, pos.gridY());
     }
 
     @Test
     @DisplayName("Conversion should handle Double.MAX_VALUE without overflow crashing")
     public void testMaxIntegerOverflowAttempt() {
         Position pos = new Position(Double.MAX_VALUE, Double.MAX_VALUE);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertNotNull(grid);
+        assertTrue(pos.gridX() >= 0 && pos.gridY() >= 0);
 
     }
 
@@ -149,9 +136,8 @@ public class PositionTest extends BaseTest {
     public void testMinValue() {
         Position pos = new Position(Double.MIN_VALUE, Double.MIN_VALUE);
         assertEquals(Double.MIN_VALUE, pos.x, 0.0);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertEquals((Integer) 0, grid.getKey());
-        assertEquals((Integer) 0, grid.getValue());
+        assertEquals(0, pos.gridX());
+        assertEquals(0, pos.gridY());
     }
 
     @Test
@@ -159,9 +145,8 @@ public class PositionTest extends BaseTest {
     public void testNegativeZero() {
         Position pos = new Position(-0.0, -0.0);
         assertEquals(-0.0, pos.x, 0.0);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertEquals((Integer) 0, grid.getKey());
-        assertEquals((Integer) 0, grid.getValue());
+        assertEquals(0, pos.gridX());
+        assertEquals(0, pos.gridY());
     }
 
     @Test
@@ -169,9 +154,8 @@ public class PositionTest extends BaseTest {
     public void testExactTileBoundaryUpper() {
 
         Position pos = new Position(TILE_SIZE, TILE_SIZE);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertEquals((Integer) 1, grid.getKey());
-        assertEquals((Integer) 1, grid.getValue());
+        assertEquals(1, pos.gridX());
+        assertEquals(1, pos.gridY());
     }
 
     @Test
@@ -179,10 +163,9 @@ public class PositionTest extends BaseTest {
     public void testSmallNegative() {
 
         Position pos = new Position(-Double.MIN_VALUE, -Double.MIN_VALUE);
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
 
-        assertEquals((Integer) 0, grid.getKey());
-        assertEquals((Integer) 0, grid.getValue());
+        assertEquals(0, pos.gridX());
+        assertEquals(0, pos.gridY());
     }
 
     @Test
@@ -199,9 +182,7 @@ public class PositionTest extends BaseTest {
         Position pos = new Position(Double.POSITIVE_INFINITY, 10.0);
         assertEquals(Double.POSITIVE_INFINITY, pos.x, 0.0);
         assertEquals(10.0, pos.y, 0.0);
-
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertNotNull(grid);
+        assertTrue(pos.gridX() >= 0 && pos.gridY() >= 0);
     }
 
     @Test
@@ -210,8 +191,27 @@ public class PositionTest extends BaseTest {
 
         double largeX = 4.5e15;
         Position pos = new Position(largeX, 10.0);
+        assertTrue(pos.gridX() >= 0 && pos.gridY() >= 0);
+    }
 
-        Pair<Integer, Integer> grid = pos.ToGridPosition();
-        assertNotNull(grid);
+    @Test
+    @DisplayName("Position built from a grid tile should convert back to the same tile")
+    public void testFromGridPositionRoundTrip() {
+        Position pos = Position.fromGridPosition(7, 12);
+        assertEquals(7 * TILE_SIZE, pos.x, 0.0);
+        assertEquals(12 * TILE_SIZE, pos.y, 0.0);
+        assertEquals(7, pos.gridX());
+        assertEquals(12, pos.gridY());
+    }
+
+    @Test
+    @DisplayName("Packed tile coordinates should round-trip, including targets outside the map")
+    public void testTileCoordPacking() {
+        int[][] coords = {{0, 0}, {27, 30}, {-4, 3}, {5, -8}, {-100, -100}};
+        for (int[] c : coords) {
+            int packed = TileCoord.pack(c[0], c[1]);
+            assertEquals(c[0], TileCoord.x(packed));
+            assertEquals(c[1], TileCoord.y(packed));
+        }
     }
 }